@@ -0,0 +1,64 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.util.AgeUtil;
+import com.example.joinadmin.util.LongIdBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생년월일이 없는 사용자 연령 필터 벤치마크 (한 묶음 기준, fork/join 병렬 vs 순차)
+ * 실행: ./gradlew jmh -Pjmh.includes=ParallelAgeFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelAgeFilterBenchmark {
+    
+    private final int count = MessageTargetingService.FILTER_BATCH_SIZE;
+    private final long[] ids = new long[count];
+    private final String[] residentNumbers = new String[count];
+    
+    private ParallelAgeFilter parallelAgeFilter;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1L;
+            int year = 1950 + i % 70;
+            residentNumbers[i] = String.format("%02d%02d%02d%c234567",
+                    year % 100, 1 + i % 12, 1 + i % 28, year >= 2000 ? '3' : '1');
+        }
+        parallelAgeFilter = new ParallelAgeFilter(0);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parallelAgeFilter.shutdown();
+    }
+    
+    @Benchmark
+    public LongIdBuffer forkJoin() {
+        return parallelAgeFilter.filter(ids, residentNumbers, count, 20, 39, 2025, 3, 1);
+    }
+    
+    @Benchmark
+    public LongIdBuffer sequential() {
+        LongIdBuffer matched = new LongIdBuffer(count);
+        for (int i = 0; i < count; i++) {
+            int age = AgeUtil.calculateAge(residentNumbers[i], 2025, 3, 1);
+            if (age >= 20 && age <= 39) {
+                matched.add(ids[i]);
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.joinadmin.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 나이 계산 벤치마크 (주민등록번호 문자 직접 읽기 vs LocalDate 기반)
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 호출당 할당량 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AgeUtilBenchmark {
+    
+    private static final String[] RESIDENT_NUMBERS = {
+            "9001011234567", "8512252234567", "0002293234567", "0506154234567",
+            "7707071234567", "9911302234567", "0312313234567", "6801011234567"
+    };
+    
+    private int index;
+    private LocalDate today;
+    private int todayYear;
+    private int todayMonth;
+    private int todayDay;
+    
+    @Setup
+    public void setUp() {
+        today = LocalDate.now();
+        todayYear = today.getYear();
+        todayMonth = today.getMonthValue();
+        todayDay = today.getDayOfMonth();
+    }
+    
+    @Benchmark
+    public int digits() {
+        return AgeUtil.calculateAge(nextResidentNumber(), todayYear, todayMonth, todayDay);
+    }
+    
+    @Benchmark
+    public int localDate() {
+        return AgeUtil.calculateAge(AgeUtil.extractBirthDate(nextResidentNumber()), today);
+    }
+    
+    @Benchmark
+    public int localDateWithClock() {
+        return AgeUtil.calculateAge(nextResidentNumber());
+    }
+    
+    private String nextResidentNumber() {
+        index = (index + 1) % RESIDENT_NUMBERS.length;
+        return RESIDENT_NUMBERS[index];
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.joinadmin.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행정구역 추출 벤치마크 (사전 접두어 비교 vs 기존 split 방식)
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 호출당 할당량 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegionExtractorBenchmark {
+    
+    private static final String[] ADDRESSES = {
+            "서울특별시 강남구 테헤란로 123",
+            "부산광역시 해운대구 센텀남대로 456",
+            "경기도 성남시 분당구 판교역로 789",
+            "강원특별자치도 춘천시 중앙로 101",
+            "제주특별자치도 제주시 연동 222",
+            "대전광역시 유성구 대학로 333",
+            "충청남도 천안시 서북구 직산읍",
+            "경상북도 포항시 북구 흥해읍",
+            "서울 종로구 세종대로 175",
+            "창원시 성산구 중앙대로 151"
+    };
+    
+    private int index;
+    
+    @Benchmark
+    public String dictionaryPrefixScan() {
+        return RegionExtractor.extract(nextAddress());
+    }
+    
+    @Benchmark
+    public String splitBaseline() {
+        return extractBySplit(nextAddress());
+    }
+    
+    private String nextAddress() {
+        index = (index + 1) % ADDRESSES.length;
+        return ADDRESSES[index];
+    }
+    
+    // 기존 UserDetailResponse 의 추출 방식
+    private static String extractBySplit(String fullAddress) {
+        if (fullAddress == null || fullAddress.trim().isEmpty()) {
+            return "";
+        }
+        
+        String[] addressParts = fullAddress.trim().split(" ");
+        if (addressParts.length > 0) {
+            String firstPart = addressParts[0];
+            
+            if (firstPart.endsWith("특별시") ||
+                firstPart.endsWith("광역시") ||
+                firstPart.endsWith("도") ||
+                firstPart.endsWith("특별자치도") ||
+                firstPart.endsWith("특별자치시")) {
+                return firstPart;
+            }
+            
+            if (firstPart.endsWith("시") || firstPart.endsWith("군")) {
+                return firstPart;
+            }
+        }
+        
+        return addressParts[0];
+    }
+}
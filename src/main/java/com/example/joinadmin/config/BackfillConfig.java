@@ -0,0 +1,23 @@
+package com.example.joinadmin.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BackfillConfig {
+    
+    /**
+     * 기존 데이터 백필 실행기
+     * 애플리케이션 기동 후 백필을 요청 처리와 분리된 단일 스레드에서 차례로 실행하므로,
+     * 사용자 수와 관계없이 기동(ApplicationReadyEvent)이 백필 완료를 기다리지 않습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor backfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("backfill-");
+        return executor;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.joinadmin.config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * 인증에 성공한 계정/암호 조합을 짧은 시간 동안 캐시하는 AuthenticationProvider
+ * 같은 Basic 인증 정보로 반복 호출하면 BCrypt 비교 없이 이전 인증 결과를 사용합니다.
+ * 캐시 키는 프로세스마다 무작위로 생성한 비밀키로 계산한 HMAC-SHA256 이므로 캐시 내용만으로 암호를 추측할 수 없고,
+ * 인증에 실패한 요청은 캐시하지 않아 잘못된 암호는 항상 BCrypt 비교를 거칩니다.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+    
+    private final AuthenticationProvider delegate;
+    private final Cache<HashCode, Authentication> cache;
+    private final HashFunction keyFunction;
+    
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, long maxSize) {
+        this.delegate = delegate;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.keyFunction = Hashing.hmacSha256(new SecretKeySpec(secret, "HmacSHA256"));
+    }
+    
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getName() == null || !(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+        
+        HashCode key = keyFunction.newHasher()
+                .putString(authentication.getName(), StandardCharsets.UTF_8)
+                .putByte((byte) 0) // 계정/암호 구분자
+                .putString(password, StandardCharsets.UTF_8)
+                .hash();
+        
+        Authentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        // 인증 실패 시 예외가 그대로 전달되며 캐시되지 않음
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication)
+                && delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.joinadmin.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오톡 메시지 API 설정 (message.kakao.*)
+ * 호출 한도는 발급된 토큰마다 적용되므로, 토큰을 추가하면 전체 발송 처리량이 비례해서 늘어납니다.
+ */
+@ConfigurationProperties(prefix = "message.kakao")
+public class KakaoProperties {
+    
+    // 토큰당 1분 호출 한도
+    private int ratePerMinute = 100;
+    
+    // 발급된 토큰(Basic auth 계정) 목록
+    private List<Token> tokens = new ArrayList<>(List.of(new Token("autoever", "1234")));
+    
+    public int getRatePerMinute() {
+        return ratePerMinute;
+    }
+    
+    public void setRatePerMinute(int ratePerMinute) {
+        this.ratePerMinute = ratePerMinute;
+    }
+    
+    public List<Token> getTokens() {
+        return tokens;
+    }
+    
+    public void setTokens(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+    
+    public static class Token {
+        
+        private String username;
+        private String password;
+        
+        // 기본 생성자
+        public Token() {}
+        
+        // 생성자
+        public Token(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+        
+        public String getUsername() {
+            return username;
+        }
+        
+        public void setUsername(String username) {
+            this.username = username;
+        }
+        
+        public String getPassword() {
+            return password;
+        }
+        
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
\ No newline at end of file
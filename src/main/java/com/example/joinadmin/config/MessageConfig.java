@@ -0,0 +1,57 @@
+package com.example.joinadmin.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(KakaoProperties.class)
+public class MessageConfig {
+    
+    /**
+     * 메시지 발송 작업 실행기
+     * HTTP 요청 스레드와 분리된 전용 스레드에서 발송 작업을 실행합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor campaignExecutor(@Value("${message.campaign.concurrency:2}") int concurrency,
+                                                   @Value("${message.campaign.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity); // 초과 시 작업 등록 거부
+        executor.setThreadNamePrefix("campaign-");
+        return executor;
+    }
+    
+    /**
+     * 메시지 발송 워커 풀
+     * 필요한 동시 호출 수는 (초당 허용 호출 수 x 평균 응답 시간) 이므로,
+     * 카카오톡(1.67/s) + SMS(8.33/s) 한도를 응답 시간 1초 내외에서 모두 사용하려면 10개 이상이 필요합니다.
+     * 초과 호출은 RateLimiter 가 막으므로 워커 수를 늘려도 한도를 넘지 않습니다.
+     *
+     * message.dispatch.mode 가 virtual 이면 호출마다 가상 스레드를 사용합니다.
+     * 외부 API 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않으므로 수천 건을 동시에 대기시킬 수 있고,
+     * 동시 실행 수는 max-concurrency 로 제한합니다 (한도에 도달하면 발송 작업 스레드가 대기).
+     */
+    @Bean
+    public TaskExecutor dispatchExecutor(@Value("${message.dispatch.mode:platform}") String mode,
+                                         @Value("${message.dispatch.workers:16}") int workers,
+                                         @Value("${message.dispatch.max-concurrency:1000}") int maxConcurrency) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("message-dispatch-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            return executor;
+        }
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("message-dispatch-");
+        return executor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.example.joinadmin.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+    
+    /**
+     * 암호 인코더 (회원, 관리자 공용)
+     * 저장되는 해시는 "{알고리즘}해시" 형식이며, 접두사가 없는 기존 BCrypt 해시도 검증할 수 있습니다.
+     * 저장된 해시의 알고리즘이나 BCrypt 비용이 현재 설정과 다르면 upgradeEncoding 이 true 를 반환하므로,
+     * 로그인 성공 시 재해싱해 전체 회원의 해시를 무중단으로 점진 전환합니다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(bcryptStrength);
+        
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 암호 알고리즘입니다: " + algorithm);
+        }
+        
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt); // 접두사 없는 기존 해시
+        return passwordEncoder;
+    }
+    
+    /**
+     * 저장된 해시의 비용이 설정값과 다르면 (낮거나 높으면) 재해싱 대상으로 판단하는 BCrypt 인코더
+     * 기본 구현은 비용이 낮은 경우만 재해싱하므로 비용을 낮추는 전환을 지원하지 않습니다.
+     */
+    static class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+        
+        private final int strength;
+        
+        CostAwareBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+        
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // $2a$10$... 형식에서 비용 추출
+            if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+                return false;
+            }
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
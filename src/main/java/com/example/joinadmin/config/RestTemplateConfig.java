@@ -1,14 +1,67 @@
 package com.example.joinadmin.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
     
     @Bean
+    @Primary
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+    
+    /**
+     * 카카오톡/SMS 발송 API 전용 HTTP 클라이언트
+     * 커넥션 풀과 keep-alive 로 메시지마다 TCP 연결을 새로 맺지 않고,
+     * 연결/응답 타임아웃으로 외부 API 가 응답하지 않아도 발송 워커가 멈추지 않도록 합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient messageHttpClient(
+            @Value("${message.http.max-connections:50}") int maxConnections,
+            @Value("${message.http.max-connections-per-host:20}") int maxConnectionsPerHost,
+            @Value("${message.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${message.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${message.http.pool-acquire-timeout-ms:2000}") long poolAcquireTimeoutMs,
+            @Value("${message.http.keep-alive-seconds:30}") long keepAliveSeconds) {
+        
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost) // 호스트(카카오/SMS)별 동시 연결 수 제한
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+        
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+    
+    @Bean
+    public RestTemplate messageRestTemplate(CloseableHttpClient messageHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(messageHttpClient));
+    }
 }
\ No newline at end of file
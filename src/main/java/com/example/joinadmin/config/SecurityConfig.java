@@ -1,20 +1,27 @@
 package com.example.joinadmin.config;
 
 import com.example.joinadmin.filter.JwtAuthenticationFilter;
+import com.example.joinadmin.service.PasswordHashingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -26,22 +33,71 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
     
+    /**
+     * 암호 해싱/검증 전용 실행기
+     * BCrypt 는 CPU 연산이므로 코어 수만큼만 동시에 실행하고, 대기열을 넘는 요청은 거절합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:200}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity); // 초과 시 TaskRejectedException
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+    
+    /**
+     * 일괄 회원가입 암호 해싱 전용 실행기
+     * 로그인/회원가입이 사용하는 passwordHashingExecutor 와 스레드, 대기열을 공유하지 않으므로
+     * 대량 이관 중에도 로그인 요청이 대기열 초과나 대기 시간 초과로 거절되지 않습니다.
+     * 기본 스레드 수는 CPU 코어 수의 절반으로, 나머지 코어는 로그인 해싱에 남겨 둡니다.
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public ThreadPoolTaskExecutor bulkPasswordHashingExecutor(
+            @Value("${security.password-hashing.bulk-threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(PasswordHashingService.BULK_WINDOW); // 일괄 해싱은 BULK_WINDOW 개씩 제출
+        executor.setThreadNamePrefix("bulk-password-hashing-");
+        return executor;
     }
     
     @Bean
-    public UserDetailsService userDetailsService() {
+    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails admin = User.builder()
                 .username("admin")
-                .password(passwordEncoder().encode("1212"))
+                .password(passwordEncoder.encode("1212"))
                 .roles("ADMIN")
                 .build();
         
         return new InMemoryUserDetailsManager(admin);
     }
     
+    /**
+     * 관리자 Basic 인증 처리
+     * 인증에 성공한 계정/암호는 짧은 시간 캐시해 반복되는 관리자 API 호출마다 BCrypt 비교를 하지 않습니다.
+     */
+    @Bean
+    public AuthenticationProvider authenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            @Value("${admin.auth-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${admin.auth-cache.max-size:1000}") long maxSize) {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+        
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -0,0 +1,54 @@
+package com.example.joinadmin.config;
+
+import com.example.joinadmin.service.MessageDispatcher;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+    
+    /**
+     * 카카오톡/SMS 발송 API 전용 논블로킹 HTTP 클라이언트 커넥션 풀
+     * message.http.* 설정을 RestTemplate 클라이언트와 공유합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider messageConnectionProvider(
+            @Value("${message.http.max-connections:50}") int maxConnections,
+            @Value("${message.http.pool-acquire-timeout-ms:2000}") long poolAcquireTimeoutMs,
+            @Value("${message.http.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${message.dispatch.reactive-max-in-flight:1000}") int maxInFlight) {
+        return ConnectionProvider.builder("message-http")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(MessageDispatcher.resolveReactiveMaxInFlight(maxInFlight)) // 커넥션 대기 요청 수를 발송 흐름과 같은 동시 발송 한도에 맞춤
+                .pendingAcquireTimeout(Duration.ofMillis(poolAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(keepAliveSeconds))
+                .evictInBackground(Duration.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+    
+    /**
+     * 카카오톡/SMS 발송 API 전용 WebClient
+     * 응답을 기다리는 동안 스레드를 점유하지 않아 적은 이벤트 루프 스레드로 많은 발송을 동시에 처리합니다.
+     */
+    @Bean
+    public WebClient messageWebClient(
+            ConnectionProvider messageConnectionProvider,
+            @Value("${message.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${message.http.read-timeout-ms:5000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(messageConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+        
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
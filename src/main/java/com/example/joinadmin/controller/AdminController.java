@@ -1,19 +1,27 @@
 package com.example.joinadmin.controller;
 
+import com.example.joinadmin.dto.MessageCampaignResponse;
 import com.example.joinadmin.dto.MessageRequest;
 import com.example.joinadmin.dto.MessageResponse;
 import com.example.joinadmin.dto.PagedResponse;
+import com.example.joinadmin.dto.UserBatchRegistrationRequest;
+import com.example.joinadmin.dto.UserBatchRegistrationResponse;
 import com.example.joinadmin.dto.UserResponse;
 import com.example.joinadmin.dto.UserUpdateRequest;
 import com.example.joinadmin.entity.User;
 import com.example.joinadmin.service.MessageService;
+import com.example.joinadmin.service.UserBatchRegistrationService;
+import com.example.joinadmin.service.UserDetailCache;
 import com.example.joinadmin.service.UserService;
+import com.example.joinadmin.util.RegionExtractor;
+import com.google.common.cache.CacheStats;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +29,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -31,25 +40,42 @@ public class AdminController {
     
     private final UserService userService;
     private final MessageService messageService;
+    private final UserBatchRegistrationService userBatchRegistrationService;
+    private final UserDetailCache userDetailCache;
     
     @Autowired
-    public AdminController(UserService userService, MessageService messageService) {
+    public AdminController(UserService userService, MessageService messageService,
+                           UserBatchRegistrationService userBatchRegistrationService,
+                           UserDetailCache userDetailCache) {
         this.userService = userService;
         this.messageService = messageService;
+        this.userBatchRegistrationService = userBatchRegistrationService;
+        this.userDetailCache = userDetailCache;
     }
     
     /**
      * 회원 조회 API (페이징)
+     * lastId 를 전달하면 키셋 페이징으로 해당 ID 다음 회원부터 ID 오름차순으로 조회합니다.
+     * 키셋 페이징은 OFFSET 스캔과 전체 건수 조회가 없어 페이지 깊이와 관계없이 응답 시간이 일정하며,
+     * 응답의 nextCursor 를 다음 요청의 lastId 로 사용합니다. (page, sort 는 무시)
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 크기 (기본값: 10)
      * @param sort 정렬 기준 (기본값: id)
+     * @param lastId 이전 페이지의 마지막 회원 ID (키셋 페이징)
+     * @param withTotal 전체 건수 조회 여부 (기본값: true)
+     * @param count 전체 건수 방식 (exact: count 쿼리, approx: 캐시된 근사값, 기본값: exact)
+     * @param region 행정구역 필터 (예: 서울특별시 또는 서울, withTotal/count 는 무시하고 해당 행정구역 건수만 조회)
      * @return 페이징된 회원 목록
      */
     @GetMapping("/users")
     public ResponseEntity<PagedResponse<UserResponse>> getUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sort) {
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String region) {
         
         try {
             // 페이지 크기 제한 (최대 100)
@@ -57,10 +83,43 @@ public class AdminController {
                 size = 100;
             }
             
+            // 행정구역별 조회 (region, id 인덱스 사용)
+            if (region != null) {
+                return ResponseEntity.ok(getUsersByRegion(RegionExtractor.canonicalize(region), page, size, sort, lastId));
+            }
+            
+            // 근사 전체 건수는 count 쿼리 없이 캐시된 회원 수를 사용
+            boolean approximate = withTotal && "approx".equalsIgnoreCase(count);
+            
+            // 키셋 페이징
+            if (lastId != null) {
+                Slice<User> userSlice = userService.findUsersAfter(lastId, size);
+                PagedResponse<UserResponse> pagedResponse = PagedResponse.from(userSlice.map(UserResponse::from));
+                pagedResponse.setFirst(false);
+                pagedResponse.setNextCursor(nextCursor(userSlice));
+                if (approximate) {
+                    pagedResponse.withApproximateTotal(userService.countUsersApproximately());
+                }
+                return ResponseEntity.ok(pagedResponse);
+            }
+            
             // 정렬 설정
             Sort sortBy = Sort.by(Sort.Direction.ASC, sort);
             Pageable pageable = PageRequest.of(page, size, sortBy);
             
+            // 전체 건수 없이(또는 근사값으로) 조회
+            if (!withTotal || approximate) {
+                Slice<User> userSlice = userService.findAllUsersWithoutCount(pageable);
+                PagedResponse<UserResponse> pagedResponse = PagedResponse.from(userSlice.map(UserResponse::from));
+                if ("id".equals(sort)) {
+                    pagedResponse.setNextCursor(nextCursor(userSlice));
+                }
+                if (approximate) {
+                    pagedResponse.withApproximateTotal(userService.countUsersApproximately());
+                }
+                return ResponseEntity.ok(pagedResponse);
+            }
+            
             // 사용자 조회
             Page<User> userPage = userService.findAllUsers(pageable);
             
@@ -69,6 +128,9 @@ public class AdminController {
             
             // 페이징 응답 생성
             PagedResponse<UserResponse> pagedResponse = PagedResponse.from(responsePage);
+            if ("id".equals(sort)) {
+                pagedResponse.setNextCursor(nextCursor(userPage));
+            }
             
             return ResponseEntity.ok(pagedResponse);
             
@@ -77,6 +139,69 @@ public class AdminController {
         }
     }
     
+    private PagedResponse<UserResponse> getUsersByRegion(String region, int page, int size, String sort, Long lastId) {
+        if (lastId != null) {
+            Slice<User> userSlice = userService.findUsersByRegionAfter(region, lastId, size);
+            PagedResponse<UserResponse> pagedResponse = PagedResponse.from(userSlice.map(UserResponse::from));
+            pagedResponse.setFirst(false);
+            pagedResponse.setNextCursor(nextCursor(userSlice));
+            return pagedResponse;
+        }
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sort));
+        Page<User> userPage = userService.findUsersByRegion(region, pageable);
+        PagedResponse<UserResponse> pagedResponse = PagedResponse.from(userPage.map(UserResponse::from));
+        if ("id".equals(sort)) {
+            pagedResponse.setNextCursor(nextCursor(userPage));
+        }
+        return pagedResponse;
+    }
+    
+    /**
+     * 행정구역별 회원 수 조회 API
+     * @return 행정구역별 회원 수 (회원 수 내림차순)
+     */
+    @GetMapping("/users/regions")
+    public ResponseEntity<Map<String, Long>> getUserCountsByRegion() {
+        return ResponseEntity.ok(userService.countUsersByRegion());
+    }
+    
+    // 다음 페이지가 있으면 현재 페이지의 마지막 회원 ID
+    private Long nextCursor(Slice<User> userSlice) {
+        if (!userSlice.hasNext() || userSlice.getContent().isEmpty()) {
+            return null;
+        }
+        List<User> users = userSlice.getContent();
+        return users.get(users.size() - 1).getId();
+    }
+    
+    /**
+     * 일괄 회원가입 API (파트너 회원 이관용)
+     * 요청 단위가 아닌 행 단위로 성공/실패를 판단하며, 행별 결과와 처리량(초당 처리 건수)을 반환합니다.
+     * @param request 회원가입 요청 목록 (최대 10000건)
+     * @param bindingResult 유효성 검사 결과
+     * @return 행별 회원가입 결과
+     */
+    @PostMapping("/users/batch")
+    public ResponseEntity<UserBatchRegistrationResponse> registerUsers(
+            @Valid @RequestBody UserBatchRegistrationRequest request,
+            BindingResult bindingResult) {
+        
+        // 1. 입력값 유효성 검사 (행별 검사는 서비스에서 수행)
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getFieldErrors()
+                    .stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.joining(", "));
+            
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserBatchRegistrationResponse.failure("입력값 오류: " + errorMessage));
+        }
+        
+        // 2. 일괄 회원가입
+        return ResponseEntity.ok(userBatchRegistrationService.registerUsers(request.getUsers()));
+    }
+    
     /**
      * 특정 회원 조회 API
      * @param id 회원 ID
@@ -164,9 +289,10 @@ public class AdminController {
     
     /**
      * 연령대별 메시지 발송 API
+     * 발송 작업을 등록하고 즉시 작업 ID를 반환합니다. 진행 현황은 발송 작업 조회 API로 확인합니다.
      * @param request 메시지 발송 요청
      * @param bindingResult 유효성 검사 결과
-     * @return 메시지 발송 결과
+     * @return 발송 작업 등록 결과
      */
     @PostMapping("/messages")
     public ResponseEntity<MessageResponse> sendMessage(
@@ -184,15 +310,69 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
         
-        // 2. 메시지 발송
+        // 2. 발송 작업 등록
         MessageResponse response = messageService.sendMessageByAge(request);
         
         // 3. 응답 처리
         if (response.isSuccess()) {
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } else {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
     }
     
+    /**
+     * 메시지 발송 작업 목록 조회 API (페이징, 최신순)
+     * @param page 페이지 번호 (0부터 시작, 기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 페이징된 발송 작업 목록
+     */
+    @GetMapping("/messages")
+    public ResponseEntity<PagedResponse<MessageCampaignResponse>> getCampaigns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        // 페이지 크기 제한 (최대 100)
+        if (size > 100) {
+            size = 100;
+        }
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        Page<MessageCampaignResponse> campaignPage = messageService.getCampaigns(pageable);
+        
+        return ResponseEntity.ok(PagedResponse.from(campaignPage));
+    }
+    
+    /**
+     * 메시지 발송 작업 진행 현황 조회 API
+     * @param campaignId 발송 작업 ID
+     * @return 대상자 수, 카카오톡/SMS 발송 건수, 실패 건수, 처리량
+     */
+    @GetMapping("/messages/{campaignId}")
+    public ResponseEntity<MessageCampaignResponse> getCampaign(@PathVariable Long campaignId) {
+        MessageCampaignResponse response = messageService.getCampaignStatus(campaignId);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 본인 정보 조회 캐시 통계 API (캐시 크기 조정용)
+     * @return 캐시 항목 수, 적중/실패 건수, 적중률, 용량 초과로 제거된 건수
+     */
+    @GetMapping("/caches/user-detail")
+    public ResponseEntity<Map<String, Object>> getUserDetailCacheStats() {
+        CacheStats stats = userDetailCache.stats();
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("size", userDetailCache.size());
+        response.put("hitCount", stats.hitCount());
+        response.put("missCount", stats.missCount());
+        response.put("hitRate", stats.hitRate());
+        response.put("evictionCount", stats.evictionCount());
+        return ResponseEntity.ok(response);
+    }
+    
 }
\ No newline at end of file
@@ -5,11 +5,12 @@ import com.example.joinadmin.dto.LoginResponse;
 import com.example.joinadmin.dto.UserDetailResponse;
 import com.example.joinadmin.dto.UserRegistrationRequest;
 import com.example.joinadmin.dto.UserRegistrationResponse;
-import com.example.joinadmin.entity.User;
+import com.example.joinadmin.service.UserDetailCache;
 import com.example.joinadmin.service.UserService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -24,10 +25,12 @@ import java.util.stream.Collectors;
 public class UserController {
     
     private final UserService userService;
+    private final UserDetailCache userDetailCache;
     
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserDetailCache userDetailCache) {
         this.userService = userService;
+        this.userDetailCache = userDetailCache;
     }
     
     /**
@@ -52,8 +55,14 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
         
-        // 2. 회원가입 처리
-        UserRegistrationResponse response = userService.registerUser(request);
+        // 2. 회원가입 처리 (암호 해싱 처리 한도 초과 시 503)
+        UserRegistrationResponse response;
+        try {
+            response = userService.registerUser(request);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(UserRegistrationResponse.failure("회원가입 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
         
         // 3. 응답 처리
         if (response.isSuccess()) {
@@ -85,8 +94,14 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
         
-        // 2. 로그인 처리
-        LoginResponse response = userService.loginUser(request);
+        // 2. 로그인 처리 (암호 검증 처리 한도 초과 시 503)
+        LoginResponse response;
+        try {
+            response = userService.loginUser(request);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(LoginResponse.failure("로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
         
         // 3. 응답 처리
         if (response.isSuccess()) {
@@ -107,14 +122,12 @@ public class UserController {
             // JWT 필터에서 설정한 userId를 가져옴
             Long userId = (Long) authentication.getDetails();
             
-            // 사용자 정보 조회
-            User user = userService.findById(userId);
-            if (user == null) {
+            // 사용자 정보 조회 (캐시 우선, 주소는 가장 큰 단위의 행정구역만 포함)
+            UserDetailResponse response = userDetailCache.getUserDetail(userId);
+            if (response == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
             
-            // 응답 생성 (주소는 가장 큰 단위의 행정구역만 포함)
-            UserDetailResponse response = new UserDetailResponse(user);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -0,0 +1,215 @@
+package com.example.joinadmin.dto;
+
+import com.example.joinadmin.entity.MessageCampaign;
+import com.example.joinadmin.service.CampaignProgress;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class MessageCampaignResponse {
+    
+    private Long campaignId;
+    private MessageCampaign.Status status;
+    private Integer minAge;
+    private Integer maxAge;
+    private long expectedTargetCount;
+    private long targetedCount;
+    private long kakaoSentCount;
+    private long smsSentCount;
+    private long failedCount;
+    private double throughputPerMinute; // 분당 처리 건수
+    private Long estimatedRemainingSeconds; // 완료까지 예상 소요 시간 (진행 중인 작업만)
+    private LocalDateTime estimatedCompletionAt; // 완료 예상 시각 (진행 중인 작업만)
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    
+    // 기본 생성자
+    public MessageCampaignResponse() {}
+    
+    // 발송 작업과 실시간 진행 현황으로부터 생성하는 생성자
+    public MessageCampaignResponse(MessageCampaign campaign, CampaignProgress progress) {
+        this.campaignId = campaign.getId();
+        this.status = campaign.getStatus();
+        this.minAge = campaign.getMinAge();
+        this.maxAge = campaign.getMaxAge();
+        this.expectedTargetCount = campaign.getExpectedTargetCount();
+        this.errorMessage = campaign.getErrorMessage();
+        this.createdAt = campaign.getCreatedAt();
+        this.startedAt = campaign.getStartedAt();
+        this.finishedAt = campaign.getFinishedAt();
+        
+        // 실행 중인 작업은 DB 에 반영되기 전의 최신 진행 현황을 사용
+        if (progress != null) {
+            this.targetedCount = progress.getTargetedCount();
+            this.kakaoSentCount = progress.getKakaoSentCount();
+            this.smsSentCount = progress.getSmsSentCount();
+            this.failedCount = progress.getFailedCount();
+        } else {
+            this.targetedCount = campaign.getTargetedCount();
+            this.kakaoSentCount = campaign.getKakaoSentCount();
+            this.smsSentCount = campaign.getSmsSentCount();
+            this.failedCount = campaign.getFailedCount();
+        }
+        
+        this.throughputPerMinute = calculateThroughput();
+    }
+    
+    // 팩토리 메서드
+    public static MessageCampaignResponse from(MessageCampaign campaign) {
+        return new MessageCampaignResponse(campaign, null);
+    }
+    
+    public static MessageCampaignResponse from(MessageCampaign campaign, CampaignProgress progress) {
+        return new MessageCampaignResponse(campaign, progress);
+    }
+    
+    /**
+     * 시작 시각부터 종료 시각(진행 중이면 현재)까지의 분당 처리 건수를 계산합니다.
+     * @return 분당 처리 건수
+     */
+    private double calculateThroughput() {
+        if (startedAt == null) {
+            return 0.0;
+        }
+        
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long elapsedMillis = Duration.between(startedAt, end).toMillis();
+        if (elapsedMillis <= 0) {
+            return 0.0;
+        }
+        
+        long processed = kakaoSentCount + smsSentCount + failedCount;
+        return processed * 60_000.0 / elapsedMillis;
+    }
+    
+    // Getter & Setter
+    public Long getCampaignId() {
+        return campaignId;
+    }
+    
+    public void setCampaignId(Long campaignId) {
+        this.campaignId = campaignId;
+    }
+    
+    public MessageCampaign.Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(MessageCampaign.Status status) {
+        this.status = status;
+    }
+    
+    public Integer getMinAge() {
+        return minAge;
+    }
+    
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+    
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+    
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+    
+    public long getExpectedTargetCount() {
+        return expectedTargetCount;
+    }
+    
+    public void setExpectedTargetCount(long expectedTargetCount) {
+        this.expectedTargetCount = expectedTargetCount;
+    }
+    
+    public long getTargetedCount() {
+        return targetedCount;
+    }
+    
+    public void setTargetedCount(long targetedCount) {
+        this.targetedCount = targetedCount;
+    }
+    
+    public long getKakaoSentCount() {
+        return kakaoSentCount;
+    }
+    
+    public void setKakaoSentCount(long kakaoSentCount) {
+        this.kakaoSentCount = kakaoSentCount;
+    }
+    
+    public long getSmsSentCount() {
+        return smsSentCount;
+    }
+    
+    public void setSmsSentCount(long smsSentCount) {
+        this.smsSentCount = smsSentCount;
+    }
+    
+    public long getFailedCount() {
+        return failedCount;
+    }
+    
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+    
+    public double getThroughputPerMinute() {
+        return throughputPerMinute;
+    }
+    
+    public void setThroughputPerMinute(double throughputPerMinute) {
+        this.throughputPerMinute = throughputPerMinute;
+    }
+    
+    public Long getEstimatedRemainingSeconds() {
+        return estimatedRemainingSeconds;
+    }
+    
+    public void setEstimatedRemainingSeconds(Long estimatedRemainingSeconds) {
+        this.estimatedRemainingSeconds = estimatedRemainingSeconds;
+    }
+    
+    public LocalDateTime getEstimatedCompletionAt() {
+        return estimatedCompletionAt;
+    }
+    
+    public void setEstimatedCompletionAt(LocalDateTime estimatedCompletionAt) {
+        this.estimatedCompletionAt = estimatedCompletionAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
\ No newline at end of file
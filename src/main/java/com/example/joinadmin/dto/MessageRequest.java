@@ -3,6 +3,7 @@ package com.example.joinadmin.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 public class MessageRequest {
     
@@ -15,6 +16,7 @@ public class MessageRequest {
     private Integer maxAge;
     
     @NotBlank(message = "메시지 내용은 필수입니다")
+    @Size(max = 1000, message = "메시지 내용은 1000자 이하여야 합니다")
     private String message;
     
     // 기본 생성자
@@ -4,30 +4,26 @@ public class MessageResponse {
     
     private boolean success;
     private String message;
-    private Integer targetUserCount;
-    private Integer successCount;
-    private Integer failCount;
+    private Long campaignId;
     
     // 기본 생성자
     public MessageResponse() {}
     
     // 전체 필드 생성자
-    public MessageResponse(boolean success, String message, Integer targetUserCount, Integer successCount, Integer failCount) {
+    public MessageResponse(boolean success, String message, Long campaignId) {
         this.success = success;
         this.message = message;
-        this.targetUserCount = targetUserCount;
-        this.successCount = successCount;
-        this.failCount = failCount;
+        this.campaignId = campaignId;
     }
     
-    // 성공 응답 생성 메서드
-    public static MessageResponse success(String message, Integer targetUserCount, Integer successCount, Integer failCount) {
-        return new MessageResponse(true, message, targetUserCount, successCount, failCount);
+    // 발송 작업 등록 응답 생성 메서드
+    public static MessageResponse accepted(Long campaignId) {
+        return new MessageResponse(true, "메시지 발송 작업이 등록되었습니다.", campaignId);
     }
     
     // 실패 응답 생성 메서드
     public static MessageResponse failure(String message) {
-        return new MessageResponse(false, message, null, null, null);
+        return new MessageResponse(false, message, null);
     }
     
     // Getter and Setter
@@ -47,27 +43,11 @@ public class MessageResponse {
         this.message = message;
     }
     
-    public Integer getTargetUserCount() {
-        return targetUserCount;
+    public Long getCampaignId() {
+        return campaignId;
     }
     
-    public void setTargetUserCount(Integer targetUserCount) {
-        this.targetUserCount = targetUserCount;
-    }
-    
-    public Integer getSuccessCount() {
-        return successCount;
-    }
-    
-    public void setSuccessCount(Integer successCount) {
-        this.successCount = successCount;
-    }
-    
-    public Integer getFailCount() {
-        return failCount;
-    }
-    
-    public void setFailCount(Integer failCount) {
-        this.failCount = failCount;
+    public void setCampaignId(Long campaignId) {
+        this.campaignId = campaignId;
     }
 }
\ No newline at end of file
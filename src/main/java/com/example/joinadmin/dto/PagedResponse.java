@@ -1,6 +1,7 @@
 package com.example.joinadmin.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,10 +10,12 @@ public class PagedResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements; // 전체 건수를 조회하지 않은 경우 null
+    private Integer totalPages; // 전체 건수를 조회하지 않은 경우 null
     private boolean first;
     private boolean last;
+    private Long nextCursor; // 키셋 페이징의 다음 페이지 요청 값 (lastId), 마지막 페이지이면 null
+    private boolean approximateTotal; // totalElements 가 캐시된 근사값인지 여부
     
     // 기본 생성자
     public PagedResponse() {}
@@ -28,11 +31,32 @@ public class PagedResponse<T> {
         this.last = page.isLast();
     }
     
+    // 전체 건수 없이 Slice로부터 생성하는 생성자
+    public PagedResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.pageNumber = slice.getNumber();
+        this.pageSize = slice.getSize();
+        this.first = slice.isFirst();
+        this.last = slice.isLast();
+    }
+    
     // 팩토리 메서드
     public static <T> PagedResponse<T> from(Page<T> page) {
         return new PagedResponse<>(page);
     }
     
+    public static <T> PagedResponse<T> from(Slice<T> slice) {
+        return new PagedResponse<>(slice);
+    }
+    
+    // 근사 전체 건수로 totalElements, totalPages 설정
+    public PagedResponse<T> withApproximateTotal(long total) {
+        this.totalElements = total;
+        this.totalPages = pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 1;
+        this.approximateTotal = true;
+        return this;
+    }
+    
     // Getter & Setter
     public List<T> getContent() {
         return content;
@@ -58,19 +82,19 @@ public class PagedResponse<T> {
         this.pageSize = pageSize;
     }
     
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
     
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
     
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
     
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
     
@@ -90,6 +114,22 @@ public class PagedResponse<T> {
         this.last = last;
     }
     
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isApproximateTotal() {
+        return approximateTotal;
+    }
+    
+    public void setApproximateTotal(boolean approximateTotal) {
+        this.approximateTotal = approximateTotal;
+    }
+    
     @Override
     public String toString() {
         return "PagedResponse{" +
@@ -100,6 +140,8 @@ public class PagedResponse<T> {
                 ", totalPages=" + totalPages +
                 ", first=" + first +
                 ", last=" + last +
+                ", nextCursor=" + nextCursor +
+                ", approximateTotal=" + approximateTotal +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.joinadmin.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class UserBatchRegistrationRequest {
+    
+    // 행별 입력값 검사는 서비스에서 수행하고 결과에 행별로 기록 (한 행의 오류로 전체 요청을 거절하지 않음)
+    @NotEmpty(message = "회원 목록은 필수입니다")
+    @Size(max = 10000, message = "한 번에 최대 10000명까지 등록할 수 있습니다")
+    private List<UserRegistrationRequest> users;
+    
+    // 기본 생성자
+    public UserBatchRegistrationRequest() {}
+    
+    // 전체 필드 생성자
+    public UserBatchRegistrationRequest(List<UserRegistrationRequest> users) {
+        this.users = users;
+    }
+    
+    // Getter and Setter
+    public List<UserRegistrationRequest> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserRegistrationRequest> users) {
+        this.users = users;
+    }
+}
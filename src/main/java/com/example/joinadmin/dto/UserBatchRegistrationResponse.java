@@ -0,0 +1,92 @@
+package com.example.joinadmin.dto;
+
+import java.util.List;
+
+public class UserBatchRegistrationResponse {
+    
+    private String message;
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private long elapsedMillis;
+    private double throughputPerSecond;
+    private List<UserBatchRegistrationResult> results;
+    
+    // 기본 생성자
+    public UserBatchRegistrationResponse() {}
+    
+    public UserBatchRegistrationResponse(List<UserBatchRegistrationResult> results, long elapsedMillis) {
+        this.results = results;
+        this.totalCount = results.size();
+        this.successCount = (int) results.stream().filter(UserBatchRegistrationResult::isSuccess).count();
+        this.failureCount = totalCount - successCount;
+        this.elapsedMillis = elapsedMillis;
+        this.throughputPerSecond = elapsedMillis > 0 ? totalCount * 1000.0 / elapsedMillis : totalCount;
+        this.message = String.format("%d건 중 %d건 등록되었습니다.", totalCount, successCount);
+    }
+    
+    // 요청 자체가 거절된 경우의 응답 팩토리 메서드
+    public static UserBatchRegistrationResponse failure(String message) {
+        UserBatchRegistrationResponse response = new UserBatchRegistrationResponse();
+        response.setMessage(message);
+        response.setResults(List.of());
+        return response;
+    }
+    
+    // Getter & Setter
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public int getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+    
+    public int getSuccessCount() {
+        return successCount;
+    }
+    
+    public void setSuccessCount(int successCount) {
+        this.successCount = successCount;
+    }
+    
+    public int getFailureCount() {
+        return failureCount;
+    }
+    
+    public void setFailureCount(int failureCount) {
+        this.failureCount = failureCount;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+    
+    public void setThroughputPerSecond(double throughputPerSecond) {
+        this.throughputPerSecond = throughputPerSecond;
+    }
+    
+    public List<UserBatchRegistrationResult> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<UserBatchRegistrationResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.joinadmin.dto;
+
+public class UserBatchRegistrationResult {
+    
+    private int index;
+    private boolean success;
+    private String message;
+    private Long userId;
+    
+    // 기본 생성자
+    public UserBatchRegistrationResult() {}
+    
+    public UserBatchRegistrationResult(int index, boolean success, String message, Long userId) {
+        this.index = index;
+        this.success = success;
+        this.message = message;
+        this.userId = userId;
+    }
+    
+    // 성공 결과 팩토리 메서드
+    public static UserBatchRegistrationResult success(int index, Long userId) {
+        return new UserBatchRegistrationResult(index, true, "회원가입이 성공적으로 완료되었습니다.", userId);
+    }
+    
+    // 실패 결과 팩토리 메서드
+    public static UserBatchRegistrationResult failure(int index, String message) {
+        return new UserBatchRegistrationResult(index, false, message, null);
+    }
+    
+    // Getter & Setter
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
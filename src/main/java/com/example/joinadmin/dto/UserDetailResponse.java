@@ -1,6 +1,7 @@
 package com.example.joinadmin.dto;
 
 import com.example.joinadmin.entity.User;
+import com.example.joinadmin.util.RegionExtractor;
 
 import java.time.LocalDateTime;
 
@@ -25,45 +26,14 @@ public class UserDetailResponse {
         this.name = user.getName();
         this.residentNumber = user.getResidentNumber();
         this.phoneNumber = user.getPhoneNumber();
-        this.address = extractMainAdministrativeRegion(user.getAddress());
+        // 저장된 행정구역 사용 (행정구역 백필 전 사용자는 주소에서 추출)
+        this.address = user.getRegion() != null
+                ? user.getRegion()
+                : RegionExtractor.extract(user.getAddress());
         this.createdAt = user.getCreatedAt();
         this.updatedAt = user.getUpdatedAt();
     }
     
-    /**
-     * 주소에서 가장 큰 단위의 행정구역을 추출합니다.
-     * 예: "서울특별시 강남구 테헤란로 123" -> "서울특별시"
-     * @param fullAddress 전체 주소
-     * @return 가장 큰 단위의 행정구역
-     */
-    private String extractMainAdministrativeRegion(String fullAddress) {
-        if (fullAddress == null || fullAddress.trim().isEmpty()) {
-            return "";
-        }
-        
-        String[] addressParts = fullAddress.trim().split(" ");
-        if (addressParts.length > 0) {
-            String firstPart = addressParts[0];
-            
-            // 특별시, 광역시, 도, 특별자치도, 특별자치시 등으로 끝나는 경우
-            if (firstPart.endsWith("특별시") || 
-                firstPart.endsWith("광역시") || 
-                firstPart.endsWith("도") || 
-                firstPart.endsWith("특별자치도") || 
-                firstPart.endsWith("특별자치시")) {
-                return firstPart;
-            }
-            
-            // 시, 군으로 끝나는 경우 (도가 없는 특별한 경우)
-            if (firstPart.endsWith("시") || firstPart.endsWith("군")) {
-                return firstPart;
-            }
-        }
-        
-        // 패턴에 맞지 않는 경우 첫 번째 공백 이전까지 반환
-        return addressParts[0];
-    }
-    
     // Getter and Setter
     public Long getId() {
         return id;
@@ -0,0 +1,57 @@
+package com.example.joinadmin.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백필 진행 위치
+ * 마지막으로 처리한 ID 를 배치마다 저장해, 값을 계산할 수 없어 null 로 남는 행을 다음 기동 때 다시 조회하지 않습니다.
+ */
+@Entity
+@Table(name = "backfill_cursors")
+public class BackfillCursor {
+    
+    @Id
+    @Column(length = 50)
+    private String name;
+    
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // 기본 생성자
+    public BackfillCursor() {}
+    
+    // 생성자
+    public BackfillCursor(String name) {
+        this.name = name;
+    }
+    
+    // Getter & Setter
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public long getLastId() {
+        return lastId;
+    }
+    
+    public void setLastId(long lastId) {
+        this.lastId = lastId;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.joinadmin.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_campaigns")
+public class MessageCampaign {
+    
+    // 실패 사유 컬럼 길이 (초과분은 잘라서 저장)
+    public static final int ERROR_MESSAGE_MAX_LENGTH = 500;
+    
+    public enum Status {
+        QUEUED,     // 대기 중
+        RUNNING,    // 발송 중
+        COMPLETED,  // 발송 완료
+        FAILED      // 발송 중단
+    }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Integer minAge;
+    
+    @Column(nullable = false)
+    private Integer maxAge;
+    
+    @Column(nullable = false, length = 1000)
+    private String message;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+    
+    // 발송 진행 현황
+    private long expectedTargetCount; // 시작 시점의 예상 대상자 수
+    private long targetedCount;
+    private long kakaoSentCount;
+    private long smsSentCount;
+    private long failedCount;
+    
+    @Column(length = ERROR_MESSAGE_MAX_LENGTH)
+    private String errorMessage;
+    
+    // 발송 작업을 실행 중인 인스턴스와 마지막 점유 갱신 시각 (갱신이 끊긴 작업만 다른 인스턴스가 이어서 실행)
+    @Column(name = "owner_id", length = 64)
+    private String owner;
+    
+    private LocalDateTime heartbeatAt;
+    
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    // 기본 생성자
+    public MessageCampaign() {}
+    
+    // 생성자
+    public MessageCampaign(Integer minAge, Integer maxAge, String message) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.message = message;
+        this.status = Status.QUEUED;
+    }
+    
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Integer getMinAge() {
+        return minAge;
+    }
+    
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+    
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+    
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public long getExpectedTargetCount() {
+        return expectedTargetCount;
+    }
+    
+    public void setExpectedTargetCount(long expectedTargetCount) {
+        this.expectedTargetCount = expectedTargetCount;
+    }
+    
+    public long getTargetedCount() {
+        return targetedCount;
+    }
+    
+    public void setTargetedCount(long targetedCount) {
+        this.targetedCount = targetedCount;
+    }
+    
+    public long getKakaoSentCount() {
+        return kakaoSentCount;
+    }
+    
+    public void setKakaoSentCount(long kakaoSentCount) {
+        this.kakaoSentCount = kakaoSentCount;
+    }
+    
+    public long getSmsSentCount() {
+        return smsSentCount;
+    }
+    
+    public void setSmsSentCount(long smsSentCount) {
+        this.smsSentCount = smsSentCount;
+    }
+    
+    public long getFailedCount() {
+        return failedCount;
+    }
+    
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    
+    public String getOwner() {
+        return owner;
+    }
+    
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+    
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+    
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "MessageCampaign{" +
+                "id=" + id +
+                ", minAge=" + minAge +
+                ", maxAge=" + maxAge +
+                ", status=" + status +
+                ", targetedCount=" + targetedCount +
+                ", kakaoSentCount=" + kakaoSentCount +
+                ", smsSentCount=" + smsSentCount +
+                ", failedCount=" + failedCount +
+                ", owner=" + owner +
+                ", createdAt=" + createdAt +
+                ", startedAt=" + startedAt +
+                ", finishedAt=" + finishedAt +
+                '}';
+    }
+}
\ No newline at end of file
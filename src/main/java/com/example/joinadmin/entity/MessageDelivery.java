@@ -0,0 +1,120 @@
+package com.example.joinadmin.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 작업의 수신자별 발송 이력
+ * 발송 작업이 중단된 뒤 다시 실행될 때 이미 발송된 사용자를 건너뛰는 기준이 됩니다.
+ */
+@Entity
+@Table(name = "message_deliveries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_message_deliveries_campaign_user", columnNames = {"campaign_id", "user_id"}))
+public class MessageDelivery {
+    
+    public enum Channel {
+        KAKAO,  // 카카오톡
+        SMS     // SMS 대체 발송
+    }
+    
+    public enum Status {
+        DELIVERED,  // 발송 완료 (재실행 시 제외)
+        FAILED      // 카카오톡, SMS 모두 실패 (재실행 시 재시도)
+    }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Channel channel; // 실패 시 null
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // 기본 생성자
+    public MessageDelivery() {}
+    
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getCampaignId() {
+        return campaignId;
+    }
+    
+    public void setCampaignId(Long campaignId) {
+        this.campaignId = campaignId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Channel getChannel() {
+        return channel;
+    }
+    
+    public void setChannel(Channel channel) {
+        this.channel = channel;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
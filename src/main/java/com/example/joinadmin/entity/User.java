@@ -1,5 +1,7 @@
 package com.example.joinadmin.entity;
 
+import com.example.joinadmin.util.AgeUtil;
+import com.example.joinadmin.util.RegionExtractor;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -7,17 +9,37 @@ import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_birth_date", columnList = "birth_date, id"),
+        @Index(name = "idx_users_region", columnList = "region, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_ACCOUNT, columnNames = "account"),
+        @UniqueConstraint(name = User.UK_RESIDENT_NUMBER, columnNames = "resident_number")
+})
 public class User {
     
+    // 유니크 제약 조건 이름 (회원가입 시 중복 위반 사유 구분용)
+    public static final String UK_ACCOUNT = "uk_users_account";
+    public static final String UK_RESIDENT_NUMBER = "uk_users_resident_number";
+    
+    // 행정구역 컬럼 길이 (이보다 긴 값은 저장하지 않고 조회 시 주소에서 추출)
+    public static final int REGION_MAX_LENGTH = 20;
+    
+    // 시퀀스 증가 단위 (DB 시퀀스의 INCREMENT BY 와 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    // 시퀀스를 ALLOCATION_SIZE 단위로 미리 할당받는 pooled 옵티마이저 (INSERT 마다 ID 조회 없이 JDBC 배치 가능)
+    // 기존 IDENTITY 테이블은 src/main/resources/db/users-id-sequence.sql 로 전환
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = User.ID_ALLOCATION_SIZE)
     private Long id;
     
-    @Column(unique = true, nullable = false, length = 50)
+    @Column(nullable = false, length = 50)
     @NotBlank(message = "계정은 필수입니다")
     @Size(min = 4, max = 50, message = "계정은 4자 이상 50자 이하여야 합니다")
     private String account;
@@ -31,11 +53,15 @@ public class User {
     @Size(max = 50, message = "성명은 50자 이하여야 합니다")
     private String name;
     
-    @Column(unique = true, nullable = false, length = 13)
+    @Column(nullable = false, length = 13)
     @NotBlank(message = "주민등록번호는 필수입니다")
     @Pattern(regexp = "\\d{13}", message = "주민등록번호는 13자리 숫자여야 합니다")
     private String residentNumber;
     
+    // 주민등록번호에서 파생된 생년월일 (연령대 조회용, 주민등록번호가 올바르지 않으면 null)
+    @Column(name = "birth_date")
+    private LocalDate birthDate;
+    
     @Column(nullable = false, length = 11)
     @NotBlank(message = "핸드폰번호는 필수입니다")
     @Pattern(regexp = "\\d{11}", message = "핸드폰번호는 11자리 숫자여야 합니다")
@@ -46,6 +72,10 @@ public class User {
     @Size(max = 500, message = "주소는 500자 이하여야 합니다")
     private String address;
     
+    // 주소에서 파생된 가장 큰 단위의 행정구역 (본인 정보 조회, 지역별 조회용)
+    @Column(length = REGION_MAX_LENGTH)
+    private String region;
+    
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -63,7 +93,48 @@ public class User {
         this.name = name;
         this.residentNumber = residentNumber;
         this.phoneNumber = phoneNumber;
-        this.address = address;
+        setAddress(address);
+    }
+    
+    /**
+     * 저장 시점에 주민등록번호로부터 생년월일을 파생합니다.
+     */
+    @PrePersist
+    void deriveBirthDate() {
+        if (birthDate == null) {
+            birthDate = parseBirthDate(residentNumber);
+        }
+    }
+    
+    /**
+     * 조회한 행정구역을 사전의 정식 명칭 인스턴스로 교체해 같은 지역의 사용자끼리 문자열을 공유합니다.
+     */
+    @PostLoad
+    void internRegion() {
+        region = RegionExtractor.canonicalize(region);
+    }
+    
+    /**
+     * 주민등록번호로부터 생년월일을 추출합니다.
+     * @param residentNumber 주민등록번호
+     * @return 생년월일 (형식이 올바르지 않으면 null)
+     */
+    public static LocalDate parseBirthDate(String residentNumber) {
+        try {
+            return AgeUtil.extractBirthDate(residentNumber);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 주소로부터 저장할 행정구역을 추출합니다.
+     * @param address 주소
+     * @return 행정구역 (컬럼 길이를 넘으면 null)
+     */
+    public static String deriveRegion(String address) {
+        String region = RegionExtractor.extract(address);
+        return region.length() <= REGION_MAX_LENGTH ? region : null;
     }
     
     // Getter & Setter
@@ -107,6 +178,14 @@ public class User {
         this.residentNumber = residentNumber;
     }
     
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+    
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+    
     public String getPhoneNumber() {
         return phoneNumber;
     }
@@ -119,8 +198,18 @@ public class User {
         return address;
     }
     
+    // 주소가 바뀔 때 가장 큰 단위의 행정구역도 함께 갱신 (조회마다 주소를 파싱하지 않도록 저장)
     public void setAddress(String address) {
         this.address = address;
+        this.region = deriveRegion(address);
+    }
+    
+    public String getRegion() {
+        return region;
+    }
+    
+    public void setRegion(String region) {
+        this.region = region;
     }
     
     public LocalDateTime getCreatedAt() {
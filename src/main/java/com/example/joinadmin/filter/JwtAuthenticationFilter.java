@@ -1,6 +1,7 @@
 package com.example.joinadmin.filter;
 
-import com.example.joinadmin.util.JwtUtil;
+import com.example.joinadmin.util.JwtPrincipal;
+import com.example.joinadmin.util.JwtTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +19,11 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
-    private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
     
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(JwtTokenCache jwtTokenCache) {
+        this.jwtTokenCache = jwtTokenCache;
     }
     
     @Override
@@ -36,9 +37,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authorizationHeader.substring(7);
             
             try {
-                if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                    String account = jwtUtil.getAccountFromToken(token);
-                    Long userId = jwtUtil.getUserIdFromToken(token);
+                // 서명/만료 검증과 사용자 정보 추출을 한 번의 파싱으로 처리 (이미 검증된 토큰은 캐시 사용)
+                JwtPrincipal principal = jwtTokenCache.verify(token);
+                if (principal != null) {
+                    String account = principal.getAccount();
+                    Long userId = principal.getUserId();
                     
                     // 사용자 인증 정보 설정
                     UsernamePasswordAuthenticationToken authenticationToken = 
@@ -0,0 +1,9 @@
+package com.example.joinadmin.repository;
+
+import com.example.joinadmin.entity.BackfillCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillCursorRepository extends JpaRepository<BackfillCursor, String> {
+}
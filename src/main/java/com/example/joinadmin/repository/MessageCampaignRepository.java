@@ -0,0 +1,74 @@
+package com.example.joinadmin.repository;
+
+import com.example.joinadmin.entity.MessageCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MessageCampaignRepository extends JpaRepository<MessageCampaign, Long> {
+    
+    /**
+     * 점유가 만료된 발송 작업 조회 (마지막 점유 갱신이 기준 시각 이전이거나 없는 작업)
+     * @param statuses 발송 작업 상태 목록
+     * @param expiredBefore 점유 만료 기준 시각
+     * @return 발송 작업 목록 (ID 순)
+     */
+    @Query("SELECT c FROM MessageCampaign c WHERE c.status IN :statuses " +
+           "AND (c.heartbeatAt IS NULL OR c.heartbeatAt < :expiredBefore) ORDER BY c.id")
+    List<MessageCampaign> findLeaseExpired(@Param("statuses") Collection<MessageCampaign.Status> statuses,
+                                           @Param("expiredBefore") LocalDateTime expiredBefore);
+    
+    /**
+     * 점유가 만료된 발송 작업을 점유 (조건부 UPDATE 이므로 여러 인스턴스가 동시에 시도해도 한 곳만 성공)
+     * @param id 발송 작업 ID
+     * @param owner 점유할 인스턴스 ID
+     * @param now 점유 시각
+     * @param statuses 점유할 수 있는 상태 목록
+     * @param expiredBefore 점유 만료 기준 시각
+     * @return 변경된 행 수 (0 이면 다른 인스턴스가 실행 중이거나 이미 종료됨)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MessageCampaign c SET c.owner = :owner, c.heartbeatAt = :now WHERE c.id = :id " +
+           "AND c.status IN :statuses AND (c.heartbeatAt IS NULL OR c.heartbeatAt < :expiredBefore)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("statuses") Collection<MessageCampaign.Status> statuses,
+              @Param("expiredBefore") LocalDateTime expiredBefore);
+    
+    /**
+     * 점유 중인 발송 작업의 점유 갱신
+     * @param id 발송 작업 ID
+     * @param owner 점유 중인 인스턴스 ID
+     * @param now 갱신 시각
+     * @return 변경된 행 수 (0 이면 점유를 잃음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MessageCampaign c SET c.heartbeatAt = :now WHERE c.id = :id AND c.owner = :owner")
+    int heartbeat(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+    
+    /**
+     * 점유 중인 발송 작업의 상태만 변경 (진행 현황은 변경하지 않음)
+     * @param id 발송 작업 ID
+     * @param owner 점유 중인 인스턴스 ID
+     * @param status 변경할 상태
+     * @param errorMessage 실패 사유
+     * @param finishedAt 종료 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MessageCampaign c SET c.status = :status, c.errorMessage = :errorMessage, c.finishedAt = :finishedAt " +
+           "WHERE c.id = :id AND c.owner = :owner")
+    int updateStatus(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("status") MessageCampaign.Status status,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("finishedAt") LocalDateTime finishedAt);
+}
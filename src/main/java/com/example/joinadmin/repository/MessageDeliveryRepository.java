@@ -0,0 +1,29 @@
+package com.example.joinadmin.repository;
+
+import com.example.joinadmin.entity.MessageDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MessageDeliveryRepository extends JpaRepository<MessageDelivery, Long> {
+    
+    /**
+     * 발송 작업의 사용자별 발송 이력 조회
+     * @param campaignId 발송 작업 ID
+     * @param userIds 사용자 ID 목록
+     * @return 발송 이력 목록 (이력이 없는 사용자는 포함되지 않음)
+     */
+    List<MessageDelivery> findByCampaignIdAndUserIdIn(Long campaignId, Collection<Long> userIds);
+    
+    /**
+     * 발송 작업의 채널/상태별 발송 이력 수
+     * @param campaignId 발송 작업 ID
+     * @param channel 발송 채널
+     * @param status 발송 상태
+     * @return 발송 이력 수
+     */
+    long countByCampaignIdAndChannelAndStatus(Long campaignId, MessageDelivery.Channel channel, MessageDelivery.Status status);
+}
@@ -1,9 +1,22 @@
 package com.example.joinadmin.repository;
 
 import com.example.joinadmin.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -36,4 +49,124 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부
      */
     boolean existsByResidentNumber(String residentNumber);
-}
\ No newline at end of file
+    
+    /**
+     * 생년월일 범위의 다음 페이지 조회 (대량 메시지 발송 대상 선정용, (birth_date, id) 키셋 페이징)
+     * 이전 페이지의 마지막 (생년월일, ID) 이후부터 (birth_date, id) 인덱스를 범위 스캔하므로
+     * 페이지마다 짧은 트랜잭션으로 조회할 수 있고, 커서를 열어 둔 채로 발송하지 않습니다.
+     * @param from 생년월일 하한 (포함)
+     * @param to 생년월일 상한 (포함)
+     * @param lastBirthDate 이전 페이지의 마지막 사용자 생년월일 (첫 페이지는 from)
+     * @param lastId 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 페이지 크기
+     * @return 사용자 목록 (생년월일, ID 오름차순)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select u from User u where u.birthDate between :from and :to "
+            + "and (u.birthDate, u.id) > (:lastBirthDate, :lastId) order by u.birthDate, u.id")
+    List<User> findByBirthDateBetweenAfter(@Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("lastBirthDate") LocalDate lastBirthDate,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
+    
+    /**
+     * 생년월일 범위에 해당하는 사용자 수 조회
+     * @param from 생년월일 하한 (포함)
+     * @param to 생년월일 상한 (포함)
+     * @return 사용자 수
+     */
+    long countByBirthDateBetween(LocalDate from, LocalDate to);
+    
+    /**
+     * 생년월일이 없는 사용자의 ID 와 주민등록번호 다음 페이지 조회 (생년월일 백필, 백필 전이거나 주민등록번호가 올바르지 않은 사용자의 연령 필터용, ID 순 키셋 페이징)
+     * 엔티티 대신 두 컬럼만 읽어 영속성 컨텍스트에 사용자를 올리지 않습니다.
+     * @param lastId 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 페이지 크기
+     * @return [사용자 ID, 주민등록번호] 목록 (ID 오름차순)
+     */
+    @Query("select u.id, u.residentNumber from User u where u.birthDate is null and u.id > :lastId order by u.id")
+    List<Object[]> findIdAndResidentNumberByBirthDateIsNullAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    /**
+     * 암호 해시 교체 (로그인 시 해시 재생성)
+     * 조회 이후 암호가 변경된 경우 덮어쓰지 않도록 기존 해시가 같을 때만 변경합니다.
+     * @param id 사용자 ID
+     * @param currentPassword 조회 시점의 암호 해시
+     * @param newPassword 새 암호 해시
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordHash(@Param("id") Long id,
+                           @Param("currentPassword") String currentPassword,
+                           @Param("newPassword") String newPassword);
+    
+    /**
+     * ID 기준 다음 페이지 조회 (키셋 페이징)
+     * 마지막으로 조회한 ID 이후부터 PK 인덱스를 범위 스캔하므로 페이지 깊이와 관계없이 조회 시간이 일정하고,
+     * 전체 건수 count 쿼리를 실행하지 않습니다.
+     * @param lastId 이전 페이지의 마지막 사용자 ID
+     * @param pageable 페이지 크기 (정렬은 ID 오름차순 고정)
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+    
+    /**
+     * 전체 사용자 조회 (전체 건수 count 쿼리 없이)
+     * @param pageable 페이징 정보
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Query("SELECT u FROM User u")
+    Slice<User> findSliceBy(Pageable pageable);
+    
+    /**
+     * 주어진 계정 중 이미 등록된 계정 조회 (일괄 회원가입 중복 체크)
+     * @param accounts 계정 목록
+     * @return 이미 존재하는 계정 목록
+     */
+    @Query("SELECT u.account FROM User u WHERE u.account IN :accounts")
+    List<String> findExistingAccounts(@Param("accounts") Collection<String> accounts);
+    
+    /**
+     * 주어진 주민등록번호 중 이미 등록된 주민등록번호 조회 (일괄 회원가입 중복 체크)
+     * @param residentNumbers 주민등록번호 목록
+     * @return 이미 존재하는 주민등록번호 목록
+     */
+    @Query("SELECT u.residentNumber FROM User u WHERE u.residentNumber IN :residentNumbers")
+    List<String> findExistingResidentNumbers(@Param("residentNumbers") Collection<String> residentNumbers);
+    
+    /**
+     * 행정구역이 없는 사용자의 ID 와 주소 조회 (행정구역 백필용, ID 순 키셋 페이징)
+     * @param lastId 이전 배치의 마지막 사용자 ID
+     * @param pageable 배치 크기
+     * @return [ID, 주소] 목록
+     */
+    @Query("select u.id, u.address from User u where u.region is null and u.id > :lastId order by u.id")
+    List<Object[]> findIdAndAddressByRegionIsNullAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    /**
+     * 행정구역별 사용자 조회 (region, id 인덱스 사용)
+     * @param region 가장 큰 단위의 행정구역 (예: 서울특별시)
+     * @param pageable 페이징 정보
+     * @return 페이징된 사용자 목록
+     */
+    Page<User> findByRegion(String region, Pageable pageable);
+    
+    /**
+     * 행정구역별 ID 기준 다음 페이지 조회 (키셋 페이징)
+     * @param region 가장 큰 단위의 행정구역
+     * @param lastId 이전 페이지의 마지막 사용자 ID
+     * @param pageable 페이지 크기 (정렬은 ID 오름차순 고정)
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    Slice<User> findByRegionAndIdGreaterThanOrderByIdAsc(String region, Long lastId, Pageable pageable);
+    
+    /**
+     * 행정구역별 사용자 수 조회 (사용자 수 내림차순)
+     * @return [행정구역, 사용자 수] 목록
+     */
+    @Query("SELECT u.region, COUNT(u) FROM User u WHERE u.region IS NOT NULL GROUP BY u.region ORDER BY COUNT(u) DESC")
+    List<Object[]> countGroupByRegion();
+}
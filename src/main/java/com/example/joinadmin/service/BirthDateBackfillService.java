@@ -0,0 +1,72 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+
+@Service
+public class BirthDateBackfillService {
+    
+    private static final String UPDATE_SQL = "UPDATE users SET birth_date = ? WHERE id = ? AND birth_date IS NULL";
+    
+    private final KeysetBackfill keysetBackfill;
+    private final KeysetBackfill.Target target;
+    private final boolean enabled;
+    
+    // 기동 시 백필이 끝났는지 여부 (비활성화, 완료, 실패 모두 끝난 것으로 봄)
+    private final CountDownLatch startupBackfillDone = new CountDownLatch(1);
+    
+    @Autowired
+    public BirthDateBackfillService(KeysetBackfill keysetBackfill,
+                                    UserRepository userRepository,
+                                    @Value("${user.birth-date-backfill.enabled:true}") boolean enabled) {
+        this.keysetBackfill = keysetBackfill;
+        this.target = new KeysetBackfill.Target("users.birth_date",
+                userRepository::findIdAndResidentNumberByBirthDateIsNullAfter,
+                BirthDateBackfillService::birthDateOf,
+                UPDATE_SQL);
+        this.enabled = enabled;
+    }
+    
+    /**
+     * 애플리케이션 기동 후 생년월일이 없는 기존 사용자를 주민등록번호로부터 백필 (백필 전용 스레드에서 실행)
+     * 주민등록번호가 올바르지 않은 사용자는 null 로 남으며, 다음 기동 때 다시 조회하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            startupBackfillDone.countDown();
+            return;
+        }
+        
+        keysetBackfill.runInBackground(target, startupBackfillDone::countDown);
+    }
+    
+    /**
+     * 기동 시 백필이 끝날 때까지 대기
+     * 발송 대상 조회는 생년월일 범위와 생년월일이 없는 사용자를 나누어 조회하므로, 조회 도중 백필된 사용자는
+     * 이미 지나간 생년월일 범위에도, 더 이상 생년월일이 없지도 않아 어느 쪽에서도 조회되지 않습니다.
+     * 백필이 끝난 뒤에는 생년월일이 없는 사용자(주민등록번호가 올바르지 않은 사용자)가 바뀌지 않으므로 두 조회가 겹치거나 빠지지 않습니다.
+     */
+    public void awaitStartupBackfill() {
+        try {
+            startupBackfillDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("생년월일 백필 완료 대기 중 중단되었습니다.", e);
+        }
+    }
+    
+    private static Object birthDateOf(String residentNumber) {
+        LocalDate birthDate = User.parseBirthDate(residentNumber);
+        return birthDate != null ? Date.valueOf(birthDate) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.joinadmin.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 발송 작업의 실시간 진행 현황
+ * 발송 스레드가 갱신하고, 상태 조회 API 가 DB 반영 전의 최신 값을 읽습니다.
+ */
+public class CampaignProgress {
+    
+    private final AtomicLong targetedCount = new AtomicLong();
+    private final AtomicLong kakaoSentCount = new AtomicLong();
+    private final AtomicLong smsSentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    // 다른 인스턴스가 발송 작업 점유를 가져가 이 인스턴스는 발송을 멈춰야 하는지 여부
+    private volatile boolean cancelled;
+    
+    public void addTargeted(long count) {
+        targetedCount.addAndGet(count);
+    }
+    
+    public void incrementKakaoSent() {
+        kakaoSentCount.incrementAndGet();
+    }
+    
+    public void incrementSmsSent() {
+        smsSentCount.incrementAndGet();
+    }
+    
+    public void incrementFailed() {
+        failedCount.incrementAndGet();
+    }
+    
+    /**
+     * 재실행된 발송 작업에서 이전 실행의 발송 완료 건수를 반영
+     * 이미 발송된 사용자는 다시 발송하지 않으므로 이 건수를 더해야 합계가 대상자 수와 일치합니다.
+     */
+    public void restoreDelivered(long kakaoSent, long smsSent) {
+        kakaoSentCount.addAndGet(kakaoSent);
+        smsSentCount.addAndGet(smsSent);
+    }
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    public long getTargetedCount() {
+        return targetedCount.get();
+    }
+    
+    public long getKakaoSentCount() {
+        return kakaoSentCount.get();
+    }
+    
+    public long getSmsSentCount() {
+        return smsSentCount.get();
+    }
+    
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.example.joinadmin.service;
+
+/**
+ * 사용자 한 명에 대한 메시지 발송 결과
+ */
+public enum DeliveryOutcome {
+    KAKAO_SENT, // 카카오톡 발송 성공
+    SMS_SENT,   // 카카오톡 실패 후 SMS 대체 발송 성공
+    FAILED      // 카카오톡, SMS 모두 실패
+}
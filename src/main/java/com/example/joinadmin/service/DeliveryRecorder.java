@@ -0,0 +1,78 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.MessageDelivery;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 청크 발송 결과를 작은 배치로 나누어 발송 이력에 기록
+ * 발송 워커가 결과를 넘길 때마다 모아 두었다가 FLUSH_SIZE 건이 모이거나 FLUSH_INTERVAL_MS 가 지나면 바로 기록하므로,
+ * 호출 한도 때문에 청크 발송이 수 분씩 걸려도 중단 시 이력 없이 다시 발송되는 사용자는 기록 대기 중이던 소수로 제한됩니다.
+ * 여러 발송 워커가 동시에 호출하며, 기록(DB 쓰기)은 잠금 밖에서 실행합니다.
+ */
+public class DeliveryRecorder {
+    
+    static final int FLUSH_SIZE = 20;
+    static final long FLUSH_INTERVAL_MS = 1000;
+    
+    private final MessageDeliveryService messageDeliveryService;
+    private final Long campaignId;
+    private final Map<Long, MessageDelivery.Status> previousStatuses;
+    
+    private Map<Long, DeliveryOutcome> pending = new HashMap<>();
+    private long lastFlushedAt = System.currentTimeMillis();
+    
+    /**
+     * @param messageDeliveryService 발송 이력 서비스
+     * @param campaignId 발송 작업 ID
+     * @param previousStatuses 발송 전 사용자 ID별 발송 상태 (재시도 여부 판단)
+     */
+    public DeliveryRecorder(MessageDeliveryService messageDeliveryService, Long campaignId,
+                            Map<Long, MessageDelivery.Status> previousStatuses) {
+        this.messageDeliveryService = messageDeliveryService;
+        this.campaignId = campaignId;
+        this.previousStatuses = previousStatuses;
+    }
+    
+    /**
+     * 사용자 한 명의 발송 결과 추가 (배치가 차거나 기록 주기가 지나면 바로 기록)
+     * @param userId 사용자 ID
+     * @param outcome 발송 결과
+     */
+    public void record(Long userId, DeliveryOutcome outcome) {
+        Map<Long, DeliveryOutcome> batch = null;
+        synchronized (this) {
+            pending.put(userId, outcome);
+            long now = System.currentTimeMillis();
+            if (pending.size() >= FLUSH_SIZE || now - lastFlushedAt >= FLUSH_INTERVAL_MS) {
+                batch = takePending(now);
+            }
+        }
+        write(batch);
+    }
+    
+    /**
+     * 기록되지 않은 발송 결과를 모두 기록 (청크 발송 종료 시)
+     */
+    public void flush() {
+        Map<Long, DeliveryOutcome> batch;
+        synchronized (this) {
+            batch = pending.isEmpty() ? null : takePending(System.currentTimeMillis());
+        }
+        write(batch);
+    }
+    
+    private Map<Long, DeliveryOutcome> takePending(long now) {
+        Map<Long, DeliveryOutcome> batch = pending;
+        pending = new HashMap<>();
+        lastFlushedAt = now;
+        return batch;
+    }
+    
+    private void write(Map<Long, DeliveryOutcome> batch) {
+        if (batch != null) {
+            messageDeliveryService.record(campaignId, batch, previousStatuses);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.config.KakaoProperties;
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 카카오톡 발송 토큰 풀
+ * 토큰마다 별도의 RateLimiter 를 두고, 호출마다 라운드로빈 순서로 즉시 사용 가능한 토큰을 골라
+ * 전체 처리량이 토큰 수에 비례하도록 합니다.
+ */
+public class KakaoTokenPool {
+    
+    private final List<Token> tokens;
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    public KakaoTokenPool(KakaoProperties properties) {
+        if (properties.getTokens() == null || properties.getTokens().isEmpty()) {
+            throw new IllegalArgumentException("카카오톡 발송 토큰이 하나 이상 필요합니다.");
+        }
+        
+        double permitsPerSecond = properties.getRatePerMinute() / 60.0;
+        this.tokens = properties.getTokens().stream()
+                .map(token -> new Token(token.getUsername(), token.getPassword(), RateLimiter.create(permitsPerSecond)))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 호출 가능한 토큰 획득
+     * 라운드로빈 시작 위치부터 즉시 허용되는 토큰을 찾고, 모두 한도에 걸려 있으면
+     * 시작 위치의 토큰이 허용될 때까지 대기합니다.
+     * @return 호출 한도 1회를 확보한 토큰
+     */
+    public Token acquire() {
+        int start = Math.floorMod(cursor.getAndIncrement(), tokens.size());
+        
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get((start + i) % tokens.size());
+            if (token.rateLimiter.tryAcquire()) {
+                return token;
+            }
+        }
+        
+        Token token = tokens.get(start);
+        token.rateLimiter.acquire();
+        return token;
+    }
+    
+    /**
+     * 전체 토큰의 초당 호출 한도 합계
+     * @return 초당 호출 한도
+     */
+    public double getTotalRate() {
+        return tokens.stream().mapToDouble(token -> token.rateLimiter.getRate()).sum();
+    }
+    
+    public int size() {
+        return tokens.size();
+    }
+    
+    public static class Token {
+        
+        private final String username;
+        private final String password;
+        private final RateLimiter rateLimiter;
+        
+        Token(String username, String password, RateLimiter rateLimiter) {
+            this.username = username;
+            this.password = password;
+            this.rateLimiter = rateLimiter;
+        }
+        
+        public String getUsername() {
+            return username;
+        }
+        
+        public String getPassword() {
+            return password;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.BackfillCursor;
+import com.example.joinadmin.repository.BackfillCursorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징 일괄 UPDATE 백필
+ * 대상 행의 ID 와 원본 값만 ID 순으로 BATCH_SIZE 씩 읽어 채울 값을 계산하고, 배치 단위 UPDATE 로 해당 컬럼만 변경합니다.
+ * 엔티티를 거치지 않는 UPDATE 이므로 updated_at(@UpdateTimestamp)은 변경되지 않습니다.
+ * 배치마다 UPDATE 와 진행 위치(backfill_cursors)를 함께 커밋하므로, 중단되더라도 다시 실행하면 남은 행부터 이어서 처리하고
+ * 값을 계산할 수 없어 null 로 남는 행은 다음 실행 때 다시 조회하지 않습니다.
+ */
+@Service
+public class KeysetBackfill {
+    
+    static final int BATCH_SIZE = 1000;
+    
+    /**
+     * 백필 대상 (조회 / 값 계산 / UPDATE 문)
+     */
+    public static final class Target {
+        
+        private final String name;
+        private final BiFunction<Long, Pageable, List<Object[]>> reader;
+        private final Function<String, Object> deriver;
+        private final String updateSql;
+        
+        /**
+         * @param name 백필 이름 (진행 위치 저장 키)
+         * @param reader 진행 위치(ID) 이후의 대상 행을 [ID, 원본 값] 으로 ID 순 조회
+         * @param deriver 원본 값으로부터 채울 값 계산 (null 이면 채우지 않음)
+         * @param updateSql 채울 값과 ID 를 차례로 파라미터로 받는 UPDATE 문
+         */
+        public Target(String name, BiFunction<Long, Pageable, List<Object[]>> reader,
+                      Function<String, Object> deriver, String updateSql) {
+            this.name = name;
+            this.reader = reader;
+            this.deriver = deriver;
+            this.updateSql = updateSql;
+        }
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BackfillCursorRepository backfillCursorRepository;
+    private final TaskExecutor backfillExecutor;
+    
+    @Autowired
+    public KeysetBackfill(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          BackfillCursorRepository backfillCursorRepository,
+                          @Qualifier("backfillExecutor") TaskExecutor backfillExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillCursorRepository = backfillCursorRepository;
+        this.backfillExecutor = backfillExecutor;
+    }
+    
+    /**
+     * 백필을 백필 전용 스레드에서 실행
+     * @param target 백필 대상
+     * @param onFinished 백필이 끝나면(실패 포함) 호출할 작업
+     */
+    public void runInBackground(Target target, Runnable onFinished) {
+        backfillExecutor.execute(() -> {
+            try {
+                int updated = run(target);
+                System.out.println(String.format("[INFO] 백필 완료 - 대상: %s, 행 수: %d", target.name, updated));
+            } catch (Exception e) {
+                System.err.println(String.format("[ERROR] 백필 실패 - 대상: %s, 오류: %s", target.name, e.getMessage()));
+            } finally {
+                onFinished.run();
+            }
+        });
+    }
+    
+    /**
+     * 백필 실행 (진행 위치 이후의 행부터)
+     * @param target 백필 대상
+     * @return 값이 채워진 행 수
+     */
+    public int run(Target target) {
+        int updated = 0;
+        long lastId = backfillCursorRepository.findById(target.name).map(BackfillCursor::getLastId).orElse(0L);
+        
+        while (true) {
+            List<Object[]> batch = target.reader.apply(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return updated;
+            }
+            
+            List<Object[]> updates = new ArrayList<>(batch.size());
+            for (Object[] row : batch) {
+                Object value = target.deriver.apply((String) row[1]);
+                if (value != null) {
+                    updates.add(new Object[]{value, row[0]});
+                }
+            }
+            
+            long batchLastId = (Long) batch.get(batch.size() - 1)[0];
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(target.updateSql, updates);
+                }
+                saveCursor(target.name, batchLastId);
+            });
+            updated += updates.size();
+            lastId = batchLastId;
+        }
+    }
+    
+    private void saveCursor(String name, long lastId) {
+        BackfillCursor cursor = backfillCursorRepository.findById(name).orElseGet(() -> new BackfillCursor(name));
+        cursor.setLastId(lastId);
+        cursor.setUpdatedAt(LocalDateTime.now());
+        backfillCursorRepository.save(cursor);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.dto.MessageRequest;
+import com.example.joinadmin.entity.MessageCampaign;
+import com.example.joinadmin.repository.MessageCampaignRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class MessageCampaignService {
+    
+    // 점유할 수 있는(완료되지 않은) 발송 작업 상태
+    private static final List<MessageCampaign.Status> UNFINISHED =
+            List.of(MessageCampaign.Status.QUEUED, MessageCampaign.Status.RUNNING);
+    
+    private final MessageCampaignRepository messageCampaignRepository;
+    
+    // 이 인스턴스의 발송 작업 점유 ID (설정하지 않으면 기동할 때마다 새로 생성)
+    private final String instanceId;
+    
+    // 점유 갱신이 이 시간 동안 없으면 실행 중인 인스턴스가 중단된 것으로 보고 다른 인스턴스가 이어서 실행
+    private final long leaseSeconds;
+    
+    @Autowired
+    public MessageCampaignService(MessageCampaignRepository messageCampaignRepository,
+                                  @Value("${message.campaign.instance-id:}") String instanceId,
+                                  @Value("${message.campaign.lease-seconds:60}") long leaseSeconds) {
+        this.messageCampaignRepository = messageCampaignRepository;
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.leaseSeconds = leaseSeconds;
+    }
+    
+    /**
+     * 발송 작업 등록 (등록한 인스턴스가 점유)
+     * @param request 메시지 발송 요청
+     * @return 등록된 발송 작업
+     */
+    public MessageCampaign create(MessageRequest request) {
+        MessageCampaign campaign = new MessageCampaign(request.getMinAge(), request.getMaxAge(), request.getMessage());
+        campaign.setOwner(instanceId);
+        campaign.setHeartbeatAt(LocalDateTime.now());
+        return messageCampaignRepository.save(campaign);
+    }
+    
+    /**
+     * 점유가 만료된 발송 작업을 이 인스턴스가 점유
+     * 조건부 UPDATE 로 점유하므로 여러 인스턴스가 동시에 기동해도 한 인스턴스만 성공합니다.
+     * @param id 발송 작업 ID
+     * @return 점유 성공 여부 (다른 인스턴스가 점유를 갱신 중이거나 이미 종료된 작업이면 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claim(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return messageCampaignRepository.claim(id, instanceId, now, UNFINISHED, now.minusSeconds(leaseSeconds)) == 1;
+    }
+    
+    /**
+     * 이 인스턴스가 점유 중인 발송 작업의 점유 갱신
+     * @param id 발송 작업 ID
+     * @return 점유 유지 여부 (다른 인스턴스가 점유를 가져갔으면 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean heartbeat(Long id) {
+        return messageCampaignRepository.heartbeat(id, instanceId, LocalDateTime.now()) == 1;
+    }
+    
+    /**
+     * 발송 작업 시작 처리
+     * 발송 스레드에서 호출되므로 대상자 조회 트랜잭션과 분리된 별도 트랜잭션으로 커밋합니다.
+     * 재실행된 발송 작업은 최초 시작 시각을 유지합니다.
+     * @param id 발송 작업 ID
+     * @param expectedTargetCount 예상 대상자 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markRunning(Long id, long expectedTargetCount) {
+        findOwned(id).ifPresent(campaign -> {
+            campaign.setStatus(MessageCampaign.Status.RUNNING);
+            campaign.setExpectedTargetCount(expectedTargetCount);
+            if (campaign.getStartedAt() == null) {
+                campaign.setStartedAt(LocalDateTime.now());
+            }
+        });
+    }
+    
+    /**
+     * 발송 진행 현황 저장
+     * @param id 발송 작업 ID
+     * @param progress 진행 현황
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveProgress(Long id, CampaignProgress progress) {
+        findOwned(id).ifPresent(campaign -> applyProgress(campaign, progress));
+    }
+    
+    /**
+     * 발송 작업 종료 처리
+     * @param id 발송 작업 ID
+     * @param progress 진행 현황
+     * @param status 종료 상태
+     * @param errorMessage 실패 사유 (정상 종료 시 null, 컬럼 길이를 넘으면 잘라서 저장)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void finish(Long id, CampaignProgress progress, MessageCampaign.Status status, String errorMessage) {
+        findOwned(id).ifPresent(campaign -> {
+            applyProgress(campaign, progress);
+            campaign.setStatus(status);
+            campaign.setErrorMessage(truncate(errorMessage));
+            campaign.setFinishedAt(LocalDateTime.now());
+        });
+    }
+    
+    /**
+     * 발송 작업 실패 처리 (진행 현황 없이 상태만 변경)
+     * finish 가 실패한 경우에도 작업이 발송 중 상태로 남아 재시작할 때마다 재실행되지 않도록 사용합니다.
+     * @param id 발송 작업 ID
+     * @param errorMessage 실패 사유 (컬럼 길이를 넘으면 잘라서 저장)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Long id, String errorMessage) {
+        messageCampaignRepository.updateStatus(id, instanceId, MessageCampaign.Status.FAILED, truncate(errorMessage), LocalDateTime.now());
+    }
+    
+    /**
+     * ID로 발송 작업 조회
+     * @param id 발송 작업 ID
+     * @return 발송 작업
+     */
+    @Transactional(readOnly = true)
+    public MessageCampaign findById(Long id) {
+        return messageCampaignRepository.findById(id).orElse(null);
+    }
+    
+    /**
+     * 발송 작업 목록 조회 (페이징)
+     * @param pageable 페이징 정보
+     * @return 페이징된 발송 작업 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<MessageCampaign> findAll(Pageable pageable) {
+        return messageCampaignRepository.findAll(pageable);
+    }
+    
+    /**
+     * 점유가 만료된 미완료 발송 작업 조회 (재실행 대상)
+     * 실행 중인 인스턴스가 점유를 갱신하고 있는 작업은 제외되며, 실제 재실행 여부는 claim 으로 결정합니다.
+     * @return 대기 중이거나 발송 중이던 발송 작업 중 점유가 만료된 목록
+     */
+    @Transactional(readOnly = true)
+    public List<MessageCampaign> findLeaseExpired() {
+        return messageCampaignRepository.findLeaseExpired(UNFINISHED, LocalDateTime.now().minusSeconds(leaseSeconds));
+    }
+    
+    // 이 인스턴스가 점유 중인 발송 작업 (점유를 잃은 인스턴스는 진행 현황/상태를 덮어쓰지 않음)
+    private Optional<MessageCampaign> findOwned(Long id) {
+        return messageCampaignRepository.findById(id).filter(campaign -> instanceId.equals(campaign.getOwner()));
+    }
+    
+    private String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MessageCampaign.ERROR_MESSAGE_MAX_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, MessageCampaign.ERROR_MESSAGE_MAX_LENGTH);
+    }
+    
+    private void applyProgress(MessageCampaign campaign, CampaignProgress progress) {
+        campaign.setTargetedCount(progress.getTargetedCount());
+        campaign.setKakaoSentCount(progress.getKakaoSentCount());
+        campaign.setSmsSentCount(progress.getSmsSentCount());
+        campaign.setFailedCount(progress.getFailedCount());
+    }
+}
\ No newline at end of file
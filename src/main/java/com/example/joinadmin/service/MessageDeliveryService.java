@@ -0,0 +1,118 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.MessageDelivery;
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.MessageDeliveryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수신자별 발송 이력(ledger) 관리
+ * 발송하는 동안 결과를 작은 배치(DeliveryRecorder)로 모아 배치 INSERT/UPDATE 로 기록하고,
+ * 재실행된 발송 작업은 이 이력을 기준으로 이미 발송된 사용자를 건너뜁니다.
+ */
+@Service
+@Transactional
+public class MessageDeliveryService {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO message_deliveries (campaign_id, user_id, channel, status, attempts, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 1, ?, ?)";
+    
+    private static final String RETRY_SQL =
+            "UPDATE message_deliveries SET channel = ?, status = ?, attempts = attempts + 1, updated_at = ? " +
+            "WHERE campaign_id = ? AND user_id = ?";
+    
+    private final MessageDeliveryRepository messageDeliveryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public MessageDeliveryService(MessageDeliveryRepository messageDeliveryRepository, JdbcTemplate jdbcTemplate) {
+        this.messageDeliveryRepository = messageDeliveryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * 청크 사용자의 기존 발송 상태 조회
+     * @param campaignId 발송 작업 ID
+     * @param chunk 발송 대상 사용자 청크
+     * @return 사용자 ID별 발송 상태 (이력이 없는 사용자는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MessageDelivery.Status> findStatuses(Long campaignId, List<User> chunk) {
+        List<Long> userIds = chunk.stream().map(User::getId).toList();
+        
+        Map<Long, MessageDelivery.Status> statuses = new HashMap<>();
+        for (MessageDelivery delivery : messageDeliveryRepository.findByCampaignIdAndUserIdIn(campaignId, userIds)) {
+            statuses.put(delivery.getUserId(), delivery.getStatus());
+        }
+        return statuses;
+    }
+    
+    /**
+     * 발송 결과 기록
+     * 처음 발송한 사용자는 배치 INSERT, 이전에 실패해 재시도한 사용자는 배치 UPDATE 로 시도 횟수를 늘립니다.
+     * 대상자 조회 트랜잭션(읽기 전용)과 분리된 별도 트랜잭션으로 커밋합니다.
+     * @param campaignId 발송 작업 ID
+     * @param outcomes 사용자 ID별 발송 결과 (청크 중 일부)
+     * @param previousStatuses 발송 전 사용자 ID별 발송 상태
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void record(Long campaignId, Map<Long, DeliveryOutcome> outcomes, Map<Long, MessageDelivery.Status> previousStatuses) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        
+        outcomes.forEach((userId, outcome) -> {
+            String channel = channelOf(outcome);
+            String status = outcome == DeliveryOutcome.FAILED
+                    ? MessageDelivery.Status.FAILED.name()
+                    : MessageDelivery.Status.DELIVERED.name();
+            
+            if (previousStatuses.containsKey(userId)) {
+                retries.add(new Object[]{channel, status, now, campaignId, userId});
+            } else {
+                inserts.add(new Object[]{campaignId, userId, channel, status, now, now});
+            }
+        });
+        
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retries);
+        }
+    }
+    
+    /**
+     * 이미 발송이 완료된 건수를 진행 현황에 반영 (발송 작업 재실행 시)
+     * @param campaignId 발송 작업 ID
+     * @param progress 진행 현황
+     */
+    @Transactional(readOnly = true)
+    public void restoreDelivered(Long campaignId, CampaignProgress progress) {
+        progress.restoreDelivered(
+                messageDeliveryRepository.countByCampaignIdAndChannelAndStatus(
+                        campaignId, MessageDelivery.Channel.KAKAO, MessageDelivery.Status.DELIVERED),
+                messageDeliveryRepository.countByCampaignIdAndChannelAndStatus(
+                        campaignId, MessageDelivery.Channel.SMS, MessageDelivery.Status.DELIVERED));
+    }
+    
+    private String channelOf(DeliveryOutcome outcome) {
+        return switch (outcome) {
+            case KAKAO_SENT -> MessageDelivery.Channel.KAKAO.name();
+            case SMS_SENT -> MessageDelivery.Channel.SMS.name();
+            case FAILED -> null;
+        };
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.config.KakaoProperties;
+import com.example.joinadmin.entity.User;
+import com.google.common.util.concurrent.RateLimiter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+@Service
+public class MessageDispatcher {
+    
+    private final Executor dispatchExecutor;
+    private final RestTemplate restTemplate;
+    private final ReactiveMessageClient reactiveMessageClient;
+    
+    // 발송 방식: blocking (워커 스레드 + RestTemplate), reactive (이벤트 루프 + WebClient)
+    private final boolean reactive;
+    
+    // reactive 방식의 동시 요청 수 제한 (청크 크기 이하)
+    private final int reactiveMaxInFlight;
+    
+    // API 호출 제한 관리
+    static final String KAKAO_API_URL = "http://localhost:8081/kakaotalk-messages";
+    static final String SMS_API_URL = "http://localhost:8082/sms";
+    
+    // 카카오톡: 토큰별 RateLimiter (토큰당 1분에 100회), SMS: 분당 제한을 초당 제한으로 변환 (모든 워커가 공유)
+    private final KakaoTokenPool kakaoTokenPool;
+    private final RateLimiter smsRateLimiter;
+    
+    // reactive 방식에서 호출 한도 확보(대기)만 전담하는 스레드
+    private final Scheduler kakaoPacer = Schedulers.newSingle("kakao-rate-pacer", true);
+    private final Scheduler smsPacer = Schedulers.newSingle("sms-rate-pacer", true);
+    
+    @Autowired
+    public MessageDispatcher(@Qualifier("dispatchExecutor") Executor dispatchExecutor,
+                             @Qualifier("messageRestTemplate") RestTemplate restTemplate,
+                             ReactiveMessageClient reactiveMessageClient,
+                             KakaoProperties kakaoProperties,
+                             @Value("${message.sms.rate-per-minute:500}") int smsRatePerMinute, // 1분당 500회
+                             @Value("${message.dispatch.client:blocking}") String client,
+                             @Value("${message.dispatch.reactive-max-in-flight:1000}") int reactiveMaxInFlight) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.restTemplate = restTemplate;
+        this.reactiveMessageClient = reactiveMessageClient;
+        this.kakaoTokenPool = new KakaoTokenPool(kakaoProperties);
+        this.smsRateLimiter = RateLimiter.create(smsRatePerMinute / 60.0); // 500/60 = 8.33 requests/second
+        this.reactive = "reactive".equalsIgnoreCase(client);
+        
+        // 청크마다 발송 완료를 기다리므로 청크 크기보다 큰 값은 동시 요청 수를 늘리지 못함
+        if (reactiveMaxInFlight > MessageTargetingService.CHUNK_SIZE) {
+            System.err.println(String.format("[WARN] message.dispatch.reactive-max-in-flight(%d)가 청크 크기(%d)보다 커서 청크 크기로 제한합니다.",
+                    reactiveMaxInFlight, MessageTargetingService.CHUNK_SIZE));
+        }
+        this.reactiveMaxInFlight = resolveReactiveMaxInFlight(reactiveMaxInFlight);
+    }
+    
+    /**
+     * reactive 방식에서 실제로 적용되는 동시 요청 수 한도 (청크 크기 이하로 제한)
+     * 커넥션 풀 대기 요청 수(WebClientConfig)도 이 값을 사용해 발송 흐름과 같은 한도를 가집니다.
+     * @param configured message.dispatch.reactive-max-in-flight 설정값
+     * @return 적용할 동시 요청 수 한도
+     */
+    public static int resolveReactiveMaxInFlight(int configured) {
+        return Math.min(configured, MessageTargetingService.CHUNK_SIZE);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        kakaoPacer.dispose();
+        smsPacer.dispose();
+    }
+    
+    /**
+     * 대상자 청크를 발송 워커에 분배하고 모두 처리될 때까지 대기
+     * 여러 워커가 동시에 외부 API 를 호출하므로, 한 건의 응답 지연이 전체 처리량을 제한하지 않고
+     * 공유 RateLimiter 가 허용하는 속도까지 발송할 수 있습니다.
+     * 발송 결과는 한 건씩 나올 때마다 onOutcome 으로 전달되어, 청크가 끝나기 전에 발송 이력에 기록할 수 있습니다.
+     * 발송 작업이 취소되면(점유 상실) 아직 발송하지 않은 사용자는 발송하지 않으며 결과에도 포함되지 않습니다.
+     * @param chunk 발송 대상 사용자 청크
+     * @param message 메시지 내용
+     * @param progress 진행 현황
+     * @param onOutcome 사용자 ID별 발송 결과를 받을 콜백 (여러 워커 스레드에서 동시에 호출)
+     * @return 사용자 ID별 발송 결과
+     */
+    public Map<Long, DeliveryOutcome> dispatch(List<User> chunk, String message, CampaignProgress progress,
+                                               BiConsumer<Long, DeliveryOutcome> onOutcome) {
+        Map<Long, DeliveryOutcome> outcomes = new ConcurrentHashMap<>();
+        
+        if (reactive) {
+            dispatchReactive(chunk, message, progress, outcomes, onOutcome);
+            return outcomes;
+        }
+        
+        CompletableFuture<?>[] sends = chunk.stream()
+                .map(user -> CompletableFuture.runAsync(() -> {
+                    if (progress.isCancelled()) {
+                        return;
+                    }
+                    DeliveryOutcome outcome = sendToUser(user, message, progress);
+                    outcomes.put(user.getId(), outcome);
+                    onOutcome.accept(user.getId(), outcome);
+                }, dispatchExecutor))
+                .toArray(CompletableFuture[]::new);
+        
+        CompletableFuture.allOf(sends).join();
+        return outcomes;
+    }
+    
+    /**
+     * 대상자 청크를 논블로킹 방식으로 발송하고 모두 처리될 때까지 대기
+     * 호출 한도는 전담 스레드(pacer)에서 확보하고, 한도를 얻은 요청만 이벤트 루프로 넘기므로
+     * RateLimiter 가 요청 흐름의 배압 역할을 합니다. 동시에 대기 중인 요청 수는 reactive-max-in-flight 로 제한됩니다.
+     * 청크가 끝날 때마다 진행 현황을 저장하기 위해 청크 단위로 완료를 기다리므로,
+     * 동시 요청 수는 청크 크기(MessageTargetingService.CHUNK_SIZE)를 넘을 수 없고 청크 경계에서는 잠시 줄어듭니다.
+     * 발송 결과 콜백(발송 이력 기록)은 DB 에 쓰므로 이벤트 루프가 아닌 별도 스레드에서 차례로 호출합니다.
+     * @param chunk 발송 대상 사용자 청크
+     * @param message 메시지 내용
+     * @param progress 진행 현황
+     * @param outcomes 사용자 ID별 발송 결과를 담을 맵
+     * @param onOutcome 사용자 ID별 발송 결과를 받을 콜백
+     */
+    private void dispatchReactive(List<User> chunk, String message, CampaignProgress progress,
+                                  Map<Long, DeliveryOutcome> outcomes, BiConsumer<Long, DeliveryOutcome> onOutcome) {
+        Flux.fromIterable(chunk)
+                .filter(user -> !progress.isCancelled())
+                .flatMap(user -> sendToUserReactive(user, message, progress)
+                        .map(outcome -> Map.entry(user.getId(), outcome)), reactiveMaxInFlight)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(result -> {
+                    outcomes.put(result.getKey(), result.getValue());
+                    onOutcome.accept(result.getKey(), result.getValue());
+                })
+                .then()
+                .block();
+    }
+    
+    private Mono<DeliveryOutcome> sendToUserReactive(User user, String message, CampaignProgress progress) {
+        String personalizedMessage = personalize(user, message);
+        String phone = user.getPhoneNumber();
+        
+        return Mono.fromCallable(kakaoTokenPool::acquire)
+                .subscribeOn(kakaoPacer)
+                .flatMap(token -> reactiveMessageClient.sendKakaoMessage(token, phone, personalizedMessage))
+                .flatMap(kakaoSuccess -> {
+                    if (kakaoSuccess) {
+                        return Mono.just(DeliveryOutcome.KAKAO_SENT);
+                    }
+                    // 카카오톡 발송 실패(200 이외 응답 또는 호출 오류) 시에만 SMS 발송
+                    return Mono.fromRunnable(smsRateLimiter::acquire)
+                            .subscribeOn(smsPacer)
+                            .then(reactiveMessageClient.sendSmsMessage(phone, personalizedMessage))
+                            .map(smsSuccess -> smsSuccess ? DeliveryOutcome.SMS_SENT : DeliveryOutcome.FAILED);
+                })
+                .doOnNext(outcome -> recordOutcome(user, personalizedMessage, outcome, progress));
+    }
+    
+    /**
+     * 남은 대상자를 모두 발송하는 데 걸리는 예상 시간 계산
+     * 모든 대상자는 카카오톡 호출 한도(전체 토큰 합계)를 한 번씩 사용하고, 대체 발송 비율만큼 SMS 호출 한도를 사용하므로
+     * 두 한도 중 더 오래 걸리는 쪽이 완료 시점을 결정합니다.
+     * @param remaining 남은 대상자 수
+     * @param fallbackRatio SMS 대체 발송 비율 (0.0 ~ 1.0)
+     * @return 예상 소요 시간 (초)
+     */
+    public long estimateRemainingSeconds(long remaining, double fallbackRatio) {
+        double kakaoSeconds = remaining / kakaoTokenPool.getTotalRate();
+        double smsSeconds = remaining * fallbackRatio / smsRateLimiter.getRate();
+        return (long) Math.ceil(Math.max(kakaoSeconds, smsSeconds));
+    }
+    
+    /**
+     * 사용자 한 명에게 메시지 발송 (카카오톡 실패 시 SMS 대체 발송)
+     * @param user 발송 대상 사용자
+     * @param message 메시지 내용
+     * @param progress 진행 현황
+     * @return 발송 결과
+     */
+    private DeliveryOutcome sendToUser(User user, String message, CampaignProgress progress) {
+        String personalizedMessage = personalize(user, message);
+        DeliveryOutcome outcome;
+        
+        // 카카오톡 메시지 발송 시도
+        if (sendKakaoMessage(user.getPhoneNumber(), personalizedMessage)) {
+            outcome = DeliveryOutcome.KAKAO_SENT;
+        } else {
+            // 카카오톡 발송 실패(200 이외 응답 또는 호출 오류) 시에만 SMS 발송
+            boolean smsSuccess = sendSmsMessage(user.getPhoneNumber(), personalizedMessage);
+            outcome = smsSuccess ? DeliveryOutcome.SMS_SENT : DeliveryOutcome.FAILED;
+        }
+        
+        recordOutcome(user, personalizedMessage, outcome, progress);
+        return outcome;
+    }
+    
+    private String personalize(User user, String message) {
+        return String.format("%s님, 안녕하세요. 현대 오토에버입니다. %s", user.getName(), message);
+    }
+    
+    /**
+     * 발송 결과를 진행 현황에 반영하고 로그 출력
+     * @param user 발송 대상 사용자
+     * @param personalizedMessage 발송한 메시지
+     * @param outcome 발송 결과
+     * @param progress 진행 현황
+     */
+    private void recordOutcome(User user, String personalizedMessage, DeliveryOutcome outcome, CampaignProgress progress) {
+        switch (outcome) {
+            case KAKAO_SENT -> {
+                progress.incrementKakaoSent();
+                System.out.println(String.format("[SUCCESS] 카카오톡 발송 성공 - 사용자: %s(%s), 전화번호: %s",
+                        user.getName(), user.getAccount(), user.getPhoneNumber()));
+            }
+            case SMS_SENT -> {
+                progress.incrementSmsSent();
+                System.out.println(String.format("[SUCCESS] SMS 대체 발송 성공 - 사용자: %s(%s), 전화번호: %s", 
+                        user.getName(), user.getAccount(), user.getPhoneNumber()));
+            }
+            case FAILED -> {
+                progress.incrementFailed();
+                // 완전 실패 시 상세 로깅 (재시도를 위한 정보)
+                System.err.println(String.format("[FAILED] 메시지 발송 완전 실패 - 사용자: %s(%s), 전화번호: %s, 메시지: %s", 
+                        user.getName(), user.getAccount(), user.getPhoneNumber(), personalizedMessage));
+            }
+        }
+    }
+    
+    /**
+     * 카카오톡 메시지 발송
+     * @param phone 전화번호
+     * @param message 메시지 내용
+     * @return 발송 성공 여부
+     */
+    private boolean sendKakaoMessage(String phone, String message) {
+        try {
+            // 카카오톡 API 속도 제한 (토큰당 100회/분) - 호출 가능한 토큰이 생길 때까지 대기
+            KakaoTokenPool.Token token = kakaoTokenPool.acquire();
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBasicAuth(token.getUsername(), token.getPassword());
+            
+            Map<String, String> requestBody = new HashMap<>();
+            requestBody.put("phone", formatPhoneNumber(phone));
+            requestBody.put("message", message);
+            
+            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
+            
+            ResponseEntity<String> response = restTemplate.exchange(
+                    KAKAO_API_URL,
+                    HttpMethod.POST,
+                    request,
+                    String.class
+            );
+            
+            return response.getStatusCode() == HttpStatus.OK;
+            
+        } catch (Exception e) {
+            // 로그 출력 (운영환경에서는 적절한 로깅 프레임워크 사용)
+            System.err.println(String.format("[ERROR] 카카오톡 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
+            return false;
+        }
+    }
+    
+    /**
+     * SMS 메시지 발송
+     * @param phone 전화번호
+     * @param message 메시지 내용
+     * @return 발송 성공 여부
+     */
+    private boolean sendSmsMessage(String phone, String message) {
+        try {
+            // SMS API 속도 제한 (500회/분) - 호출 가능해질 때까지 대기
+            smsRateLimiter.acquire();
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+            headers.setBasicAuth("autoever", "5678");
+            
+            // form-urlencoded 본문은 MultiValueMap 으로 전달해야 FormHttpMessageConverter 가 직렬화함
+            MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
+            requestBody.add("message", message);
+            
+            String url = SMS_API_URL + "?phone=" + formatPhoneNumber(phone);
+            
+            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(requestBody, headers);
+            
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    request,
+                    Map.class
+            );
+            
+            return response.getStatusCode() == HttpStatus.OK && 
+                   "OK".equals(response.getBody().get("result"));
+            
+        } catch (Exception e) {
+            // 로그 출력 (운영환경에서는 적절한 로깅 프레임워크 사용)
+            System.err.println(String.format("[ERROR] SMS 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
+            return false;
+        }
+    }
+    
+    /**
+     * 전화번호 형식 변환 (01012345678 -> 010-1234-5678)
+     * @param phone 전화번호
+     * @return 형식화된 전화번호
+     */
+    static String formatPhoneNumber(String phone) {
+        if (phone == null || phone.length() != 11) {
+            return phone;
+        }
+        
+        return phone.substring(0, 3) + "-" + 
+               phone.substring(3, 7) + "-" + 
+               phone.substring(7, 11);
+    }
+}
\ No newline at end of file
@@ -1,49 +1,129 @@
 package com.example.joinadmin.service;
 
+import com.example.joinadmin.dto.MessageCampaignResponse;
 import com.example.joinadmin.dto.MessageRequest;
 import com.example.joinadmin.dto.MessageResponse;
+import com.example.joinadmin.entity.MessageCampaign;
+import com.example.joinadmin.entity.MessageDelivery;
 import com.example.joinadmin.entity.User;
-import com.example.joinadmin.repository.UserRepository;
-import com.example.joinadmin.util.AgeUtil;
-import com.google.common.util.concurrent.RateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class MessageService {
     
-    private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final MessageTargetingService messageTargetingService;
+    private final MessageCampaignService messageCampaignService;
+    private final MessageDispatcher messageDispatcher;
+    private final MessageDeliveryService messageDeliveryService;
+    private final TaskExecutor campaignExecutor;
+    private final boolean resumeOnStartup;
     
-    // API 호출 제한 관리
-    private static final int KAKAO_RATE_LIMIT = 100; // 1분당 100회
-    private static final int SMS_RATE_LIMIT = 500; // 1분당 500회
-    private static final String KAKAO_API_URL = "http://localhost:8081/kakaotalk-messages";
-    private static final String SMS_API_URL = "http://localhost:8082/sms";
-    
-    // RateLimiter: 분당 제한을 초당 제한으로 변환
-    private final RateLimiter kakaoRateLimiter = RateLimiter.create(KAKAO_RATE_LIMIT / 60.0); // 100/60 = 1.67 requests/second
-    private final RateLimiter smsRateLimiter = RateLimiter.create(SMS_RATE_LIMIT / 60.0); // 500/60 = 8.33 requests/second
+    // 이 인스턴스에서 실행 중인 발송 작업의 실시간 진행 현황
+    private final Map<Long, CampaignProgress> runningCampaigns = new ConcurrentHashMap<>();
     
     @Autowired
-    public MessageService(UserRepository userRepository) {
-        this.userRepository = userRepository;
-        this.restTemplate = new RestTemplate();
+    public MessageService(MessageTargetingService messageTargetingService,
+                          MessageCampaignService messageCampaignService,
+                          MessageDispatcher messageDispatcher,
+                          MessageDeliveryService messageDeliveryService,
+                          @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                          @Value("${message.campaign.resume-on-startup:true}") boolean resumeOnStartup) {
+        this.messageTargetingService = messageTargetingService;
+        this.messageCampaignService = messageCampaignService;
+        this.messageDispatcher = messageDispatcher;
+        this.messageDeliveryService = messageDeliveryService;
+        this.campaignExecutor = campaignExecutor;
+        this.resumeOnStartup = resumeOnStartup;
+    }
+    
+    /**
+     * 애플리케이션 기동 후 완료되지 않은 발송 작업 재실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedCampaigns() {
+        if (resumeOnStartup) {
+            resumeLeaseExpiredCampaigns();
+        }
+    }
+    
+    /**
+     * 실행 중이던 인스턴스가 중단된 발송 작업을 주기적으로 이어서 실행
+     * 롤링 배포처럼 기동 시점에는 이전 인스턴스가 아직 점유를 갱신하고 있던 작업도, 그 인스턴스가 종료된 뒤 이어받습니다.
+     */
+    @Scheduled(initialDelayString = "${message.campaign.lease-check-interval-ms:30000}",
+               fixedDelayString = "${message.campaign.lease-check-interval-ms:30000}")
+    public void takeOverLeaseExpiredCampaigns() {
+        if (resumeOnStartup) {
+            resumeLeaseExpiredCampaigns();
+        }
+    }
+    
+    /**
+     * 이 인스턴스에서 실행 중인 발송 작업의 점유 갱신
+     * 다른 인스턴스가 점유를 가져간 작업(점유 갱신이 만료될 만큼 멈춰 있던 경우)은 발송을 멈춥니다.
+     */
+    @Scheduled(fixedDelayString = "${message.campaign.heartbeat-interval-ms:10000}")
+    public void heartbeatRunningCampaigns() {
+        runningCampaigns.forEach((campaignId, progress) -> {
+            try {
+                if (!messageCampaignService.heartbeat(campaignId)) {
+                    progress.cancel();
+                    System.err.println(String.format("[WARN] 메시지 발송 작업 점유 상실 - 작업 ID: %d", campaignId));
+                }
+            } catch (Exception e) {
+                System.err.println(String.format("[ERROR] 메시지 발송 작업 점유 갱신 실패 - 작업 ID: %d, 오류: %s", campaignId, e.getMessage()));
+            }
+        });
+    }
+    
+    /**
+     * 점유가 만료된 미완료 발송 작업을 점유해 재실행
+     * 대기 중이거나 발송 중이던 작업 중 실행 중인 인스턴스가 점유를 갱신하지 않는 작업만 조건부 UPDATE 로 점유하므로,
+     * 여러 인스턴스가 동시에 실행되어도 한 작업은 한 인스턴스에서만 발송됩니다.
+     * 발송 이력에 발송 완료로 기록된 사용자는 건너뜁니다.
+     */
+    private void resumeLeaseExpiredCampaigns() {
+        for (MessageCampaign campaign : messageCampaignService.findLeaseExpired()) {
+            // 이 인스턴스에서 실행 중인 작업은 점유 갱신이 늦어졌더라도 다시 실행하지 않음
+            if (runningCampaigns.containsKey(campaign.getId()) || !messageCampaignService.claim(campaign.getId())) {
+                continue;
+            }
+            
+            CampaignProgress progress = new CampaignProgress();
+            messageDeliveryService.restoreDelivered(campaign.getId(), progress);
+            runningCampaigns.put(campaign.getId(), progress);
+            
+            try {
+                campaignExecutor.execute(() -> runCampaign(campaign, progress, true));
+                System.out.println(String.format("[INFO] 메시지 발송 작업 재실행 - 작업 ID: %d", campaign.getId()));
+            } catch (TaskRejectedException e) {
+                runningCampaigns.remove(campaign.getId());
+                messageCampaignService.finish(campaign.getId(), progress, MessageCampaign.Status.FAILED, "발송 작업 대기열 초과");
+            }
+        }
     }
     
     /**
-     * 연령대별 메시지 발송
+     * 연령대별 메시지 발송 작업 등록
+     * 발송은 백그라운드 작업으로 실행되며, 요청 스레드는 작업 등록 직후 반환됩니다.
      * @param request 메시지 발송 요청
-     * @return 메시지 발송 결과
+     * @return 발송 작업 등록 결과
      */
     public MessageResponse sendMessageByAge(MessageRequest request) {
         try {
@@ -52,74 +132,22 @@ public class MessageService {
                 return MessageResponse.failure("최소 연령이 최대 연령보다 클 수 없습니다.");
             }
             
-            // 2. 연령대에 해당하는 사용자 조회
-            List<User> allUsers = userRepository.findAll();
-            List<User> targetUsers = allUsers.stream()
-                    .filter(user -> {
-                        try {
-                            int age = AgeUtil.calculateAge(user.getResidentNumber());
-                            return age >= request.getMinAge() && age <= request.getMaxAge();
-                        } catch (Exception e) {
-                            // 주민등록번호 오류가 있는 사용자는 제외
-                            return false;
-                        }
-                    })
-                    .collect(Collectors.toList());
-            
-            if (targetUsers.isEmpty()) {
-                return MessageResponse.success("메시지 발송이 완료되었습니다.", 0, 0, 0);
-            }
-            
-            // 3. 메시지 발송 (비동기 처리)
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger failCount = new AtomicInteger(0);
+            // 2. 발송 작업 등록
+            MessageCampaign campaign = messageCampaignService.create(request);
+            Long campaignId = campaign.getId();
+            CampaignProgress progress = new CampaignProgress();
+            runningCampaigns.put(campaignId, progress);
             
-            // 카카오톡 API 제한을 고려하여 배치 처리
-            CompletableFuture<Void> sendingFuture = CompletableFuture.runAsync(() -> {
-                for (User user : targetUsers) {
-                    String personalizedMessage = String.format("%s님, 안녕하세요. 현대 오토에버입니다. %s", 
-                            user.getName(), request.getMessage());
-                    
-                    // 카카오톡 메시지 발송 시도
-                    boolean kakaoSuccess = sendKakaoMessage(user.getPhoneNumber(), personalizedMessage);
-                    
-                    if (kakaoSuccess) {
-                        successCount.incrementAndGet();
-                        System.out.println(String.format("[SUCCESS] 카카오톡 발송 성공 - 사용자: %s(%s), 전화번호: %s",
-                                user.getName(), user.getAccount(), user.getPhoneNumber()));
-                    } else {
-                        // 카카오톡 실패 시 SMS 발송
-                        boolean smsSuccess = sendSmsMessage(user.getPhoneNumber(), personalizedMessage);
-                        if (smsSuccess) {
-                            successCount.incrementAndGet();
-                            System.out.println(String.format("[SUCCESS] SMS 대체 발송 성공 - 사용자: %s(%s), 전화번호: %s", 
-                                    user.getName(), user.getAccount(), user.getPhoneNumber()));
-                        } else {
-                            failCount.incrementAndGet();
-                            // 완전 실패 시 상세 로깅 (재시도를 위한 정보)
-                            System.err.println(String.format("[FAILED] 메시지 발송 완전 실패 - 사용자: %s(%s), 전화번호: %s, 메시지: %s", 
-                                    user.getName(), user.getAccount(), user.getPhoneNumber(), personalizedMessage));
-                        }
-                    }
-                    
-                    // 속도 제한은 각 API 호출 메서드에서 처리됨
-                }
-            });
-            
-            // 최대 10초 대기
+            // 3. 백그라운드 발송 시작
             try {
-                sendingFuture.get(java.util.concurrent.TimeUnit.SECONDS.toMillis(10), 
-                                java.util.concurrent.TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                // 타임아웃 또는 오류 발생 시 현재까지의 결과 반환
+                campaignExecutor.execute(() -> runCampaign(campaign, progress, false));
+            } catch (TaskRejectedException e) {
+                runningCampaigns.remove(campaignId);
+                messageCampaignService.finish(campaignId, progress, MessageCampaign.Status.FAILED, "발송 작업 대기열 초과");
+                return MessageResponse.failure("발송 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
             }
             
-            return MessageResponse.success(
-                    "메시지 발송이 완료되었습니다.",
-                    targetUsers.size(),
-                    successCount.get(),
-                    failCount.get()
-            );
+            return MessageResponse.accepted(campaignId);
             
         } catch (Exception e) {
             return MessageResponse.failure("메시지 발송 중 오류가 발생했습니다: " + e.getMessage());
@@ -127,97 +155,130 @@ public class MessageService {
     }
     
     /**
-     * 카카오톡 메시지 발송
-     * @param phone 전화번호
-     * @param message 메시지 내용
-     * @return 발송 성공 여부
+     * 발송 작업 상태 조회
+     * @param campaignId 발송 작업 ID
+     * @return 발송 작업 상태 (존재하지 않으면 null)
      */
-    private boolean sendKakaoMessage(String phone, String message) {
+    public MessageCampaignResponse getCampaignStatus(Long campaignId) {
+        MessageCampaign campaign = messageCampaignService.findById(campaignId);
+        if (campaign == null) {
+            return null;
+        }
+        
+        return withEstimate(MessageCampaignResponse.from(campaign, runningCampaigns.get(campaignId)));
+    }
+    
+    /**
+     * 발송 작업 목록 조회 (페이징)
+     * @param pageable 페이징 정보
+     * @return 페이징된 발송 작업 상태 목록
+     */
+    public Page<MessageCampaignResponse> getCampaigns(Pageable pageable) {
+        return messageCampaignService.findAll(pageable)
+                .map(campaign -> withEstimate(MessageCampaignResponse.from(campaign, runningCampaigns.get(campaign.getId()))));
+    }
+    
+    /**
+     * 진행 중인 발송 작업의 완료 예상 시각 계산
+     * 남은 대상자 수와 지금까지의 SMS 대체 발송 비율을 카카오톡/SMS 호출 한도에 대입해 계산합니다.
+     * @param response 발송 작업 상태
+     * @return 완료 예상 시각이 채워진 발송 작업 상태
+     */
+    private MessageCampaignResponse withEstimate(MessageCampaignResponse response) {
+        if (response.getStatus() != MessageCampaign.Status.RUNNING) {
+            return response;
+        }
+        
+        long processed = response.getKakaoSentCount() + response.getSmsSentCount() + response.getFailedCount();
+        long remaining = Math.max(response.getExpectedTargetCount(), response.getTargetedCount()) - processed;
+        double fallbackRatio = processed > 0
+                ? (double) (response.getSmsSentCount() + response.getFailedCount()) / processed
+                : 0.0;
+        
+        long remainingSeconds = messageDispatcher.estimateRemainingSeconds(Math.max(remaining, 0), fallbackRatio);
+        response.setEstimatedRemainingSeconds(remainingSeconds);
+        response.setEstimatedCompletionAt(LocalDateTime.now().plusSeconds(remainingSeconds));
+        return response;
+    }
+    
+    /**
+     * 발송 작업 실행 (백그라운드 스레드)
+     * 대상자를 청크 단위로 조회해 발송 워커에 분배하고, 수신자별 발송 이력은 발송하는 동안 작은 배치로 바로 기록하며
+     * 진행 현황은 청크 발송이 끝날 때마다 저장합니다.
+     * 재실행된 작업은 청크마다 발송 이력을 조회해 이미 발송된 사용자를 제외하고, 실패했던 사용자만 다시 발송합니다.
+     * @param campaign 발송 작업
+     * @param progress 진행 현황
+     * @param resumed 중단된 작업의 재실행 여부
+     */
+    private void runCampaign(MessageCampaign campaign, CampaignProgress progress, boolean resumed) {
+        Long campaignId = campaign.getId();
         try {
-            // 카카오톡 API 속도 제한 확인 (100회/분)
-            if (!kakaoRateLimiter.tryAcquire()) {
-                return false; // 속도 제한 초과시 즉시 실패 처리 (SMS로 전환)
-            }
+            long expectedTargetCount = messageTargetingService.countTargets(campaign.getMinAge(), campaign.getMaxAge());
+            messageCampaignService.markRunning(campaignId, expectedTargetCount);
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBasicAuth("autoever", "1234");
-            
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("phone", formatPhoneNumber(phone));
-            requestBody.put("message", message);
-            
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                    KAKAO_API_URL,
-                    HttpMethod.POST,
-                    request,
-                    String.class
-            );
+            messageTargetingService.forEachTargetChunk(campaign.getMinAge(), campaign.getMaxAge(), chunk -> {
+                if (progress.isCancelled()) {
+                    throw new CancellationException("다른 인스턴스가 발송 작업을 이어서 실행합니다.");
+                }
+                progress.addTargeted(chunk.size());
+                
+                // 처음 실행하는 작업은 발송 이력이 없으므로 조회를 생략
+                Map<Long, MessageDelivery.Status> previousStatuses = resumed
+                        ? messageDeliveryService.findStatuses(campaignId, chunk)
+                        : Map.of();
+                List<User> pending = chunk.stream()
+                        .filter(user -> previousStatuses.get(user.getId()) != MessageDelivery.Status.DELIVERED)
+                        .toList();
+                
+                if (!pending.isEmpty()) {
+                    DeliveryRecorder recorder = new DeliveryRecorder(messageDeliveryService, campaignId, previousStatuses);
+                    messageDispatcher.dispatch(pending, campaign.getMessage(), progress, recorder::record);
+                    recorder.flush();
+                }
+                messageCampaignService.saveProgress(campaignId, progress);
+            });
             
-            return response.getStatusCode() == HttpStatus.OK;
+            messageCampaignService.finish(campaignId, progress, MessageCampaign.Status.COMPLETED, null);
             
+        } catch (CancellationException e) {
+            // 점유를 가져간 인스턴스가 상태를 관리하므로 실패로 기록하지 않음
+            System.err.println(String.format("[WARN] 메시지 발송 작업 중단 - 작업 ID: %d, 사유: %s", campaignId, e.getMessage()));
         } catch (Exception e) {
-            // 로그 출력 (운영환경에서는 적절한 로깅 프레임워크 사용)
-            System.err.println(String.format("[ERROR] 카카오톡 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
-            return false;
+            String errorMessage = errorMessage(e);
+            System.err.println(String.format("[ERROR] 메시지 발송 작업 중단 - 작업 ID: %d, 오류: %s", campaignId, errorMessage));
+            fail(campaignId, progress, errorMessage);
+        } finally {
+            runningCampaigns.remove(campaignId);
         }
     }
     
     /**
-     * SMS 메시지 발송
-     * @param phone 전화번호
-     * @param message 메시지 내용
-     * @return 발송 성공 여부
+     * 발송 작업 실패 처리
+     * 진행 현황과 함께 저장하지 못하면 상태만 다시 저장해, 발송 중 상태로 남은 작업이 재시작할 때마다 재실행되지 않도록 합니다.
+     * @param campaignId 발송 작업 ID
+     * @param progress 진행 현황
+     * @param errorMessage 실패 사유
      */
-    private boolean sendSmsMessage(String phone, String message) {
+    private void fail(Long campaignId, CampaignProgress progress, String errorMessage) {
         try {
-            // SMS API 속도 제한 확인 (500회/분)
-            if (!smsRateLimiter.tryAcquire()) {
-                return false; // 속도 제한 초과시 즉시 실패 처리
+            messageCampaignService.finish(campaignId, progress, MessageCampaign.Status.FAILED, errorMessage);
+        } catch (Exception finishError) {
+            System.err.println(String.format("[ERROR] 발송 작업 종료 처리 실패 - 작업 ID: %d, 오류: %s", campaignId, finishError.getMessage()));
+            try {
+                messageCampaignService.markFailed(campaignId, errorMessage);
+            } catch (Exception markError) {
+                System.err.println(String.format("[ERROR] 발송 작업 실패 상태 저장 실패 - 작업 ID: %d, 오류: %s", campaignId, markError.getMessage()));
             }
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.setBasicAuth("autoever", "5678");
-            
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("message", message);
-            
-            String url = SMS_API_URL + "?phone=" + formatPhoneNumber(phone);
-            
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-            
-            return response.getStatusCode() == HttpStatus.OK && 
-                   "OK".equals(response.getBody().get("result"));
-            
-        } catch (Exception e) {
-            // 로그 출력 (운영환경에서는 적절한 로깅 프레임워크 사용)
-            System.err.println(String.format("[ERROR] SMS 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
-            return false;
         }
     }
     
     /**
-     * 전화번호 형식 변환 (01012345678 -> 010-1234-5678)
-     * @param phone 전화번호
-     * @return 형식화된 전화번호
+     * 저장할 실패 사유 (메시지가 없는 예외는 예외 클래스 이름)
+     * @param e 발생한 예외
+     * @return 실패 사유
      */
-    private String formatPhoneNumber(String phone) {
-        if (phone == null || phone.length() != 11) {
-            return phone;
-        }
-        
-        return phone.substring(0, 3) + "-" + 
-               phone.substring(3, 7) + "-" + 
-               phone.substring(7, 11);
+    static String errorMessage(Exception e) {
+        String message = e.getMessage();
+        return message == null || message.isBlank() ? e.getClass().getName() : message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,167 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.UserRepository;
+import com.example.joinadmin.util.AgeUtil;
+import com.example.joinadmin.util.LongIdBuffer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+public class MessageTargetingService {
+    
+    // 한 번에 조회해 전달하는 최대 사용자 수 (페이지 크기)
+    static final int CHUNK_SIZE = 1000;
+    
+    // 주민등록번호로 나이를 계산할 때 한 번에 조회해 병렬 필터에 넘기는 행 수
+    static final int FILTER_BATCH_SIZE = 65_536;
+    
+    private final UserRepository userRepository;
+    private final ParallelAgeFilter parallelAgeFilter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BirthDateBackfillService birthDateBackfillService;
+    
+    @Autowired
+    public MessageTargetingService(UserRepository userRepository,
+                                   ParallelAgeFilter parallelAgeFilter,
+                                   PlatformTransactionManager transactionManager,
+                                   BirthDateBackfillService birthDateBackfillService) {
+        this.userRepository = userRepository;
+        this.parallelAgeFilter = parallelAgeFilter;
+        this.birthDateBackfillService = birthDateBackfillService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    /**
+     * 연령대에 해당하는 사용자를 청크 단위로 전달
+     * 연령대를 생년월일 범위로 바꿔 (birth_date, id) 키셋 페이징으로 대상자를 조회하고,
+     * 아직 생년월일이 채워지지 않은 사용자만 ID 와 주민등록번호를 읽어 병렬로 나이를 계산해 보완합니다.
+     * 페이지마다 짧은 읽기 전용 트랜잭션으로 조회하고 청크 처리기는 트랜잭션 밖에서 호출하므로,
+     * 발송에 오랜 시간이 걸려도 DB 연결과 트랜잭션을 붙잡고 있지 않습니다.
+     * 기동 시 생년월일 백필이 진행 중이면 두 조회 사이에서 백필된 사용자가 빠지지 않도록 백필이 끝날 때까지 기다립니다.
+     * @param minAge 최소 연령
+     * @param maxAge 최대 연령
+     * @param chunkConsumer 대상 사용자 청크 처리기 (전달되는 사용자는 준영속 상태)
+     * @return 대상 사용자 수
+     */
+    public int forEachTargetChunk(int minAge, int maxAge, Consumer<List<User>> chunkConsumer) {
+        birthDateBackfillService.awaitStartupBackfill();
+        
+        LocalDate today = LocalDate.now();
+        LocalDate from = earliestBirthDate(maxAge, today);
+        LocalDate to = latestBirthDate(minAge, today);
+        
+        return forEachChunkByBirthDate(from, to, chunkConsumer)
+                + forEachFilteredChunk(minAge, maxAge, today, chunkConsumer);
+    }
+    
+    /**
+     * 연령대 대상자 수 예측 (생년월일 인덱스 기준)
+     * 생년월일이 없는 사용자(주민등록번호가 올바르지 않은 사용자)는 포함되지 않으므로 실제 대상자 수보다 작을 수 있으며,
+     * 기동 시 생년월일 백필이 진행 중이면 끝날 때까지 기다립니다.
+     * @param minAge 최소 연령
+     * @param maxAge 최대 연령
+     * @return 예상 대상자 수
+     */
+    public long countTargets(int minAge, int maxAge) {
+        birthDateBackfillService.awaitStartupBackfill();
+        LocalDate today = LocalDate.now();
+        return userRepository.countByBirthDateBetween(earliestBirthDate(maxAge, today), latestBirthDate(minAge, today));
+    }
+    
+    private LocalDate earliestBirthDate(int maxAge, LocalDate today) {
+        return AgeUtil.latestBirthDateForAge(maxAge + 1, today).plusDays(1);
+    }
+    
+    private LocalDate latestBirthDate(int minAge, LocalDate today) {
+        return AgeUtil.latestBirthDateForAge(minAge, today);
+    }
+    
+    // 생년월일 범위를 CHUNK_SIZE 씩 키셋 페이징으로 조회해 전달 (첫 페이지 커서는 (from, 0))
+    private int forEachChunkByBirthDate(LocalDate from, LocalDate to, Consumer<List<User>> chunkConsumer) {
+        int count = 0;
+        LocalDate lastBirthDate = from;
+        long lastId = 0L;
+        
+        while (true) {
+            LocalDate cursorBirthDate = lastBirthDate;
+            long cursorId = lastId;
+            List<User> chunk = readOnlyTransaction.execute(status -> userRepository.findByBirthDateBetweenAfter(
+                    from, to, cursorBirthDate, cursorId, PageRequest.of(0, CHUNK_SIZE)));
+            if (chunk == null || chunk.isEmpty()) {
+                return count;
+            }
+            
+            User last = chunk.get(chunk.size() - 1);
+            lastBirthDate = last.getBirthDate();
+            lastId = last.getId();
+            count += chunk.size();
+            
+            chunkConsumer.accept(chunk);
+            if (chunk.size() < CHUNK_SIZE) {
+                return count;
+            }
+        }
+    }
+    
+    // 생년월일이 없는 사용자의 ID/주민등록번호를 FILTER_BATCH_SIZE 행씩 조회해 병렬로 나이를 계산하고, 대상자만 CHUNK_SIZE 씩 조회해 전달
+    private int forEachFilteredChunk(int minAge, int maxAge, LocalDate today, Consumer<List<User>> chunkConsumer) {
+        int count = 0;
+        long lastId = 0L;
+        long[] ids = new long[FILTER_BATCH_SIZE];
+        String[] residentNumbers = new String[FILTER_BATCH_SIZE];
+        
+        while (true) {
+            long cursorId = lastId;
+            List<Object[]> rows = readOnlyTransaction.execute(status -> userRepository
+                    .findIdAndResidentNumberByBirthDateIsNullAfter(cursorId, PageRequest.of(0, FILTER_BATCH_SIZE)));
+            if (rows == null || rows.isEmpty()) {
+                return count;
+            }
+            
+            int size = rows.size();
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(i);
+                ids[i] = (Long) row[0];
+                residentNumbers[i] = (String) row[1];
+            }
+            lastId = ids[size - 1];
+            
+            count += dispatchMatches(ids, residentNumbers, size, minAge, maxAge, today, chunkConsumer);
+            if (size < FILTER_BATCH_SIZE) {
+                return count;
+            }
+        }
+    }
+    
+    private int dispatchMatches(long[] ids, String[] residentNumbers, int size, int minAge, int maxAge,
+                                LocalDate today, Consumer<List<User>> chunkConsumer) {
+        // 발송 작업 전체에서 같은 기준일로 나이를 계산
+        LongIdBuffer matched = parallelAgeFilter.filter(ids, residentNumbers, size, minAge, maxAge,
+                today.getYear(), today.getMonthValue(), today.getDayOfMonth());
+        
+        for (int from = 0; from < matched.size(); from += CHUNK_SIZE) {
+            List<Long> chunkIds = matched.subList(from, Math.min(from + CHUNK_SIZE, matched.size()));
+            List<User> users = readOnlyTransaction.execute(status -> userRepository.findAllById(chunkIds));
+            if (users == null || users.isEmpty()) {
+                continue;
+            }
+            
+            // findAllById 는 결과 순서를 보장하지 않으므로 ID 순으로 정렬
+            List<User> chunk = new ArrayList<>(users);
+            chunk.sort(Comparator.comparing(User::getId));
+            chunkConsumer.accept(chunk);
+        }
+        return matched.size();
+    }
+}
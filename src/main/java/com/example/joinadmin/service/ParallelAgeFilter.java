@@ -0,0 +1,111 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.util.AgeUtil;
+import com.example.joinadmin.util.LongIdBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 주민등록번호 기준 연령 필터 (fork/join 병렬 처리)
+ * 조회한 사용자 묶음을 구간으로 나눠 전용 ForkJoinPool 에서 나이를 계산하고,
+ * 조건에 맞는 사용자 ID 를 LongIdBuffer 로 모아 입력 순서대로 합칩니다.
+ * 나이 계산은 호출자가 정한 기준일(연/월/일)로 하므로 작업 도중 날짜가 바뀌어도 결과가 달라지지 않습니다.
+ */
+@Service
+public class ParallelAgeFilter {
+    
+    // 이보다 작은 구간은 더 나누지 않고 한 스레드에서 처리
+    static final int SPLIT_THRESHOLD = 2048;
+    
+    private final ForkJoinPool pool;
+    
+    @Autowired
+    public ParallelAgeFilter(@Value("${message.targeting.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * 연령대에 해당하는 사용자 ID 선별
+     * @param ids 사용자 ID 배열
+     * @param residentNumbers 사용자별 주민등록번호 (ids 와 같은 위치)
+     * @param count 배열에서 사용하는 길이
+     * @param minAge 최소 연령
+     * @param maxAge 최대 연령
+     * @param year 기준 연도
+     * @param month 기준 월
+     * @param day 기준 일
+     * @return 대상 사용자 ID (입력 순서 유지, 주민등록번호 오류가 있는 사용자 제외)
+     */
+    public LongIdBuffer filter(long[] ids, String[] residentNumbers, int count,
+                               int minAge, int maxAge, int year, int month, int day) {
+        FilterTask task = new FilterTask(ids, residentNumbers, 0, count, minAge, maxAge, year, month, day);
+        
+        // 작은 묶음은 스레드 전환 없이 호출한 스레드에서 처리
+        return count <= SPLIT_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+    
+    private static final class FilterTask extends RecursiveTask<LongIdBuffer> {
+        
+        private final long[] ids;
+        private final String[] residentNumbers;
+        private final int from;
+        private final int to;
+        private final int minAge;
+        private final int maxAge;
+        private final int year;
+        private final int month;
+        private final int day;
+        
+        private FilterTask(long[] ids, String[] residentNumbers, int from, int to,
+                           int minAge, int maxAge, int year, int month, int day) {
+            this.ids = ids;
+            this.residentNumbers = residentNumbers;
+            this.from = from;
+            this.to = to;
+            this.minAge = minAge;
+            this.maxAge = maxAge;
+            this.year = year;
+            this.month = month;
+            this.day = day;
+        }
+        
+        @Override
+        protected LongIdBuffer compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return filterRange();
+            }
+            
+            int mid = (from + to) >>> 1;
+            FilterTask left = new FilterTask(ids, residentNumbers, from, mid, minAge, maxAge, year, month, day);
+            FilterTask right = new FilterTask(ids, residentNumbers, mid, to, minAge, maxAge, year, month, day);
+            left.fork();
+            LongIdBuffer rightResult = right.compute();
+            LongIdBuffer result = left.join();
+            
+            // 왼쪽 구간 뒤에 오른쪽 구간을 붙여 입력 순서 유지
+            result.addAll(rightResult);
+            return result;
+        }
+        
+        private LongIdBuffer filterRange() {
+            LongIdBuffer matched = new LongIdBuffer(to - from);
+            for (int i = from; i < to; i++) {
+                int age = AgeUtil.calculateAge(residentNumbers[i], year, month, day);
+                if (age >= 0 && age >= minAge && age <= maxAge) {
+                    matched.add(ids[i]);
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.joinadmin.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 암호 해싱/검증 전용 실행기
+ * BCrypt 연산을 크기가 제한된 전용 스레드 풀에서 실행해 동시에 사용하는 CPU 를 제한합니다.
+ * 대기열이 가득 차거나 대기 시간이 초과되면 TaskRejectedException 으로 요청을 거절(load shedding)합니다.
+ * 일괄 회원가입 해싱은 별도 스레드 풀에서 실행해 로그인 요청의 처리 한도를 차지하지 않습니다.
+ */
+@Service
+public class PasswordHashingService {
+    
+    // 일괄 해싱 시 한 번에 제출하는 최대 작업 수 (일괄 해싱 전용 실행기의 대기열 크기)
+    public static final int BULK_WINDOW = 32;
+    
+    private final PasswordEncoder passwordEncoder;
+    private final AsyncTaskExecutor passwordHashingExecutor;
+    private final AsyncTaskExecutor bulkPasswordHashingExecutor;
+    private final long timeoutMs;
+    private final long bulkTimeoutMs;
+    
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") AsyncTaskExecutor passwordHashingExecutor,
+                                  @Qualifier("bulkPasswordHashingExecutor") AsyncTaskExecutor bulkPasswordHashingExecutor,
+                                  @Value("${security.password-hashing.timeout-ms:3000}") long timeoutMs,
+                                  @Value("${security.password-hashing.bulk-timeout-ms:60000}") long bulkTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.bulkPasswordHashingExecutor = bulkPasswordHashingExecutor;
+        this.timeoutMs = timeoutMs;
+        this.bulkTimeoutMs = bulkTimeoutMs;
+    }
+    
+    /**
+     * 암호 해싱
+     * @param rawPassword 평문 암호
+     * @return 해시된 암호
+     * @throws TaskRejectedException 처리 한도 초과
+     */
+    public String encode(String rawPassword) {
+        return await(passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword)), timeoutMs);
+    }
+    
+    /**
+     * 여러 암호를 병렬로 해싱 (일괄 회원가입용)
+     * 최대 BULK_WINDOW 개씩 일괄 해싱 전용 스레드 풀에 제출하고 완료를 기다린 뒤 다음 묶음을 제출합니다.
+     * @param rawPasswords 평문 암호 목록
+     * @return 해시된 암호 목록 (입력 순서 유지)
+     * @throws TaskRejectedException 처리 한도 초과
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += BULK_WINDOW) {
+            List<Future<String>> futures = new ArrayList<>(BULK_WINDOW);
+            for (String rawPassword : rawPasswords.subList(from, Math.min(from + BULK_WINDOW, rawPasswords.size()))) {
+                futures.add(bulkPasswordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+            }
+            for (Future<String> future : futures) {
+                encoded.add(await(future, bulkTimeoutMs));
+            }
+        }
+        return encoded;
+    }
+    
+    /**
+     * 암호 검증
+     * @param rawPassword 평문 암호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws TaskRejectedException 처리 한도 초과
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(passwordHashingExecutor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)), timeoutMs);
+    }
+    
+    /**
+     * 저장된 해시를 현재 암호 설정(알고리즘, 비용)으로 다시 만들어야 하는지 여부
+     * @param encodedPassword 저장된 해시
+     * @return 재해싱 필요 여부
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+    
+    private <T> T await(Future<T> future, long timeoutMs) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TaskRejectedException("암호 처리 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("암호 처리 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.joinadmin.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카카오톡/SMS 발송 API 논블로킹 클라이언트
+ * 요청 형식과 성공 판정 기준은 MessageDispatcher 의 RestTemplate 발송과 동일하며,
+ * 호출 오류는 예외 대신 false 로 변환해 SMS 대체 발송 흐름을 이어갑니다.
+ */
+@Component
+public class ReactiveMessageClient {
+    
+    private final WebClient webClient;
+    
+    @Autowired
+    public ReactiveMessageClient(@Qualifier("messageWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+    
+    /**
+     * 카카오톡 메시지 발송
+     * @param token 호출 한도를 확보한 발송 토큰
+     * @param phone 전화번호
+     * @param message 메시지 내용
+     * @return 발송 성공 여부
+     */
+    public Mono<Boolean> sendKakaoMessage(KakaoTokenPool.Token token, String phone, String message) {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("phone", MessageDispatcher.formatPhoneNumber(phone));
+        requestBody.put("message", message);
+        
+        return webClient.post()
+                .uri(MessageDispatcher.KAKAO_API_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBasicAuth(token.getUsername(), token.getPassword()))
+                .bodyValue(requestBody)
+                .retrieve()
+                .toBodilessEntity()
+                .map(response -> response.getStatusCode() == HttpStatus.OK)
+                .onErrorResume(e -> {
+                    System.err.println(String.format("[ERROR] 카카오톡 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
+                    return Mono.just(false);
+                });
+    }
+    
+    /**
+     * SMS 메시지 발송
+     * @param phone 전화번호
+     * @param message 메시지 내용
+     * @return 발송 성공 여부
+     */
+    @SuppressWarnings("rawtypes")
+    public Mono<Boolean> sendSmsMessage(String phone, String message) {
+        return webClient.post()
+                .uri(MessageDispatcher.SMS_API_URL + "?phone=" + MessageDispatcher.formatPhoneNumber(phone))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .headers(headers -> headers.setBasicAuth("autoever", "5678"))
+                .body(BodyInserters.fromFormData("message", message))
+                .retrieve()
+                .toEntity(Map.class)
+                .map(response -> response.getStatusCode() == HttpStatus.OK
+                        && response.getBody() != null
+                        && "OK".equals(response.getBody().get("result")))
+                .onErrorResume(e -> {
+                    System.err.println(String.format("[ERROR] SMS 발송 실패 - 전화번호: %s, 오류: %s", phone, e.getMessage()));
+                    return Mono.just(false);
+                });
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RegionBackfillService {
+    
+    private static final String UPDATE_SQL = "UPDATE users SET region = ? WHERE id = ? AND region IS NULL";
+    
+    private final KeysetBackfill keysetBackfill;
+    private final KeysetBackfill.Target target;
+    private final boolean enabled;
+    
+    @Autowired
+    public RegionBackfillService(KeysetBackfill keysetBackfill,
+                                 UserRepository userRepository,
+                                 @Value("${user.region-backfill.enabled:true}") boolean enabled) {
+        this.keysetBackfill = keysetBackfill;
+        this.target = new KeysetBackfill.Target("users.region",
+                userRepository::findIdAndAddressByRegionIsNullAfter,
+                User::deriveRegion,
+                UPDATE_SQL);
+        this.enabled = enabled;
+    }
+    
+    /**
+     * 애플리케이션 기동 후 행정구역이 없는 기존 사용자를 주소로부터 백필 (백필 전용 스레드에서 실행)
+     * 행정구역이 컬럼 길이를 넘는 사용자는 null 로 남으며(조회 시 주소에서 추출), 다음 기동 때 다시 조회하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (enabled) {
+            keysetBackfill.runInBackground(target, () -> {});
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.dto.UserBatchRegistrationResponse;
+import com.example.joinadmin.dto.UserBatchRegistrationResult;
+import com.example.joinadmin.dto.UserRegistrationRequest;
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 회원가입 (파트너 회원 이관용)
+ * 청크 단위로 입력값을 검사하고, 계정/주민등록번호 중복은 IN 쿼리로 한 번에 확인한 뒤
+ * Hibernate JDBC 배치 INSERT 로 저장합니다. 청크마다 커밋하므로 앞선 청크의 결과는 뒤 청크의 실패와 무관하게 유지됩니다.
+ */
+@Service
+public class UserBatchRegistrationService {
+    
+    // 중복 조회(IN 절)와 배치 INSERT 를 한 번에 처리하는 최대 행 수
+    static final int CHUNK_SIZE = 1000;
+    
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UserCountService userCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    
+    @Autowired
+    public UserBatchRegistrationService(UserRepository userRepository,
+                                        PasswordHashingService passwordHashingService,
+                                        UserCountService userCountService,
+                                        PlatformTransactionManager transactionManager,
+                                        Validator validator) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.userCountService = userCountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+    }
+    
+    /**
+     * 일괄 회원가입 처리
+     * @param requests 회원가입 요청 목록
+     * @return 행별 처리 결과와 처리량
+     */
+    public UserBatchRegistrationResponse registerUsers(List<UserRegistrationRequest> requests) {
+        long startedAt = System.nanoTime();
+        UserBatchRegistrationResult[] results = new UserBatchRegistrationResult[requests.size()];
+        
+        // 요청 안에서의 중복은 DB 조회 전에 걸러냄
+        Set<String> seenAccounts = new HashSet<>();
+        Set<String> seenResidentNumbers = new HashSet<>();
+        
+        for (int from = 0; from < requests.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, requests.size());
+            try {
+                registerChunk(requests, from, to, results, seenAccounts, seenResidentNumbers);
+            } catch (Exception e) {
+                for (int index = from; index < to; index++) {
+                    if (results[index] == null) {
+                        results[index] = UserBatchRegistrationResult.failure(index, "회원가입 처리 중 오류가 발생했습니다: " + e.getMessage());
+                    }
+                }
+            }
+        }
+        
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new UserBatchRegistrationResponse(Arrays.asList(results), elapsedMillis);
+    }
+    
+    private void registerChunk(List<UserRegistrationRequest> requests, int from, int to,
+                               UserBatchRegistrationResult[] results,
+                               Set<String> seenAccounts, Set<String> seenResidentNumbers) {
+        // 1. 입력값 검사 및 요청 내 중복 체크
+        List<Integer> candidates = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            UserRegistrationRequest request = requests.get(index);
+            String error = validate(request);
+            if (error != null) {
+                results[index] = UserBatchRegistrationResult.failure(index, "입력값 오류: " + error);
+            } else if (seenAccounts.contains(request.getAccount())) {
+                results[index] = UserBatchRegistrationResult.failure(index, "요청 내 중복된 계정입니다.");
+            } else if (seenResidentNumbers.contains(request.getResidentNumber())) {
+                results[index] = UserBatchRegistrationResult.failure(index, "요청 내 중복된 주민등록번호입니다.");
+            } else {
+                seenAccounts.add(request.getAccount());
+                seenResidentNumbers.add(request.getResidentNumber());
+                candidates.add(index);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        
+        // 2. 계정/주민등록번호 중복 체크 (청크당 IN 쿼리 2회)
+        Set<String> existingAccounts = new HashSet<>(userRepository.findExistingAccounts(
+                candidates.stream().map(index -> requests.get(index).getAccount()).toList()));
+        Set<String> existingResidentNumbers = new HashSet<>(userRepository.findExistingResidentNumbers(
+                candidates.stream().map(index -> requests.get(index).getResidentNumber()).toList()));
+        
+        List<Integer> inserts = new ArrayList<>(candidates.size());
+        for (int index : candidates) {
+            UserRegistrationRequest request = requests.get(index);
+            if (existingAccounts.contains(request.getAccount())) {
+                results[index] = UserBatchRegistrationResult.failure(index, "이미 존재하는 계정입니다.");
+            } else if (existingResidentNumbers.contains(request.getResidentNumber())) {
+                results[index] = UserBatchRegistrationResult.failure(index, "이미 등록된 주민등록번호입니다.");
+            } else {
+                inserts.add(index);
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+        
+        // 3. 암호 해싱 (로그인과 분리된 일괄 해싱 전용 스레드 풀에서 병렬 처리)
+        List<String> passwords = passwordHashingService.encodeAll(
+                inserts.stream().map(index -> requests.get(index).getPassword()).toList());
+        
+        // 4. 배치 INSERT (ID 는 시퀀스 pooled 옵티마이저가 미리 할당하므로 hibernate.jdbc.batch_size 단위로 전송)
+        try {
+            List<User> users = new ArrayList<>(inserts.size());
+            for (int i = 0; i < inserts.size(); i++) {
+                users.add(toUser(requests.get(inserts.get(i)), passwords.get(i)));
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+                userCountService.usersCreated(users.size());
+            });
+            for (int i = 0; i < inserts.size(); i++) {
+                results[inserts.get(i)] = UserBatchRegistrationResult.success(inserts.get(i), users.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 체크 이후 다른 요청이 같은 계정/주민등록번호로 가입한 경우 행 단위로 다시 시도
+            for (int i = 0; i < inserts.size(); i++) {
+                int index = inserts.get(i);
+                results[index] = insertOne(index, toUser(requests.get(index), passwords.get(i)));
+            }
+        }
+    }
+    
+    private UserBatchRegistrationResult insertOne(int index, User user) {
+        try {
+            Long userId = transactionTemplate.execute(status -> {
+                User savedUser = userRepository.saveAndFlush(user);
+                userCountService.userCreated();
+                return savedUser.getId();
+            });
+            return UserBatchRegistrationResult.success(index, userId);
+        } catch (DataIntegrityViolationException e) {
+            return UserBatchRegistrationResult.failure(index, UserService.duplicateMessage(e));
+        }
+    }
+    
+    private User toUser(UserRegistrationRequest request, String password) {
+        User user = new User();
+        user.setAccount(request.getAccount());
+        user.setPassword(password);
+        user.setName(request.getName());
+        user.setResidentNumber(request.getResidentNumber());
+        user.setBirthDate(User.parseBirthDate(request.getResidentNumber())); // 연령대 조회용 생년월일
+        user.setPhoneNumber(request.getPhoneNumber());
+        user.setAddress(request.getAddress());
+        return user;
+    }
+    
+    private String validate(UserRegistrationRequest request) {
+        if (request == null) {
+            return "회원 정보가 없습니다";
+        }
+        
+        Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 회원 수 캐시 (근사값)
+ * 회원 목록 조회마다 count(*) 를 실행하지 않도록 회원가입/삭제 시 카운터를 갱신하고,
+ * 직접 DB 를 수정한 경우 등의 오차는 주기적으로 실제 건수를 다시 조회해 보정합니다.
+ */
+@Service
+public class UserCountService {
+    
+    private final UserRepository userRepository;
+    private final AtomicLong count = new AtomicLong();
+    private volatile boolean initialized;
+    
+    @Autowired
+    public UserCountService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+    
+    /**
+     * 실제 회원 수로 카운터 보정 (기동 직후 및 주기적으로 실행)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.count.refresh-interval-ms:600000}")
+    public void refresh() {
+        count.set(userRepository.count());
+        initialized = true;
+    }
+    
+    /**
+     * 전체 회원 수 (근사값)
+     * @return 캐시된 회원 수
+     */
+    public long getApproximateCount() {
+        if (!initialized) {
+            refresh();
+        }
+        return count.get();
+    }
+    
+    /**
+     * 회원가입 반영 (트랜잭션 커밋 후)
+     */
+    public void userCreated() {
+        afterCommit(() -> count.incrementAndGet());
+    }
+    
+    /**
+     * 일괄 회원가입 반영 (트랜잭션 커밋 후)
+     * @param created 가입된 회원 수
+     */
+    public void usersCreated(int created) {
+        afterCommit(() -> count.addAndGet(created));
+    }
+    
+    /**
+     * 회원 삭제 반영 (트랜잭션 커밋 후)
+     */
+    public void userDeleted() {
+        afterCommit(() -> count.decrementAndGet());
+    }
+    
+    // 롤백된 변경이 카운터에 반영되지 않도록 커밋 이후에 갱신
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.dto.UserDetailResponse;
+import com.example.joinadmin.repository.UserRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 본인 정보 조회 응답 캐시 (read-through)
+ * 사용자 ID별로 만들어진 UserDetailResponse 를 보관해 반복 조회 시 DB 조회와 주소 가공을 생략합니다.
+ * 회원 수정/삭제 시 트랜잭션 커밋 후 해당 항목을 제거하며, 적중/실패 통계를 기록합니다.
+ */
+@Service
+public class UserDetailCache {
+    
+    private final UserRepository userRepository;
+    private final Cache<Long, UserDetailResponse> cache;
+    
+    // 캐시 제거 횟수 (조회 중 수정된 사용자 정보가 캐시에 남지 않도록 확인)
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    @Autowired
+    public UserDetailCache(UserRepository userRepository,
+                           @Value("${user.detail-cache.max-size:100000}") long maxSize,
+                           @Value("${user.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS) // 다른 경로로 DB 가 수정된 경우에도 오래 남지 않도록 함
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * 사용자 상세정보 조회 (캐시 우선)
+     * @param userId 사용자 ID
+     * @return 사용자 상세정보 (사용자가 없으면 null, 캐시하지 않음)
+     */
+    public UserDetailResponse getUserDetail(Long userId) {
+        UserDetailResponse cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long invalidationsBeforeLoad = invalidations.get();
+        UserDetailResponse response = userRepository.findById(userId)
+                .map(UserDetailResponse::new)
+                .orElse(null);
+        if (response == null) {
+            return null;
+        }
+        
+        cache.put(userId, response);
+        
+        // 조회하는 동안 수정/삭제가 커밋되었다면 이전 정보일 수 있으므로 캐시에서 제거
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            cache.invalidate(userId);
+        }
+        return response;
+    }
+    
+    /**
+     * 사용자 상세정보 캐시 제거 (트랜잭션 커밋 후)
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    public long size() {
+        return cache.size();
+    }
+    
+    private void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+}
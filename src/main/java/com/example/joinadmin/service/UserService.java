@@ -8,69 +8,116 @@ import com.example.joinadmin.dto.UserUpdateRequest;
 import com.example.joinadmin.entity.User;
 import com.example.joinadmin.repository.UserRepository;
 import com.example.joinadmin.util.JwtUtil;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Slice;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Service
 @Transactional
 public class UserService {
     
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final UserCountService userCountService;
+    private final UserDetailCache userDetailCache;
     
     @Autowired
-    public UserService(UserRepository userRepository, JwtUtil jwtUtil) {
+    public UserService(UserRepository userRepository, JwtUtil jwtUtil, UserCountService userCountService,
+                       PasswordHashingService passwordHashingService, UserDetailCache userDetailCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
+        this.userCountService = userCountService;
+        this.userDetailCache = userDetailCache;
     }
     
     /**
      * 회원가입 처리
+     * 계정/주민등록번호 중복은 사전 조회 없이 유니크 제약 조건으로 판단하므로 INSERT 한 번으로 처리되고,
+     * 동시에 같은 계정으로 가입하더라도 한 건만 성공합니다.
+     * 메서드 트랜잭션을 새로 시작하지 않아 암호 해싱 동안 DB 커넥션을 점유하지 않으며,
+     * 저장은 saveAndFlush 의 트랜잭션 안에서 즉시 실행되어 제약 조건 위반을 바로 확인합니다.
+     * 암호 해싱이 처리 한도를 넘으면 TaskRejectedException 이 전달됩니다.
      * @param request 회원가입 요청 정보
      * @return 회원가입 응답
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserRegistrationResponse registerUser(UserRegistrationRequest request) {
         try {
-            // 1. 계정 중복 체크
-            if (userRepository.existsByAccount(request.getAccount())) {
-                return UserRegistrationResponse.failure("이미 존재하는 계정입니다.");
-            }
-            
-            // 2. 주민등록번호 중복 체크
-            if (userRepository.existsByResidentNumber(request.getResidentNumber())) {
-                return UserRegistrationResponse.failure("이미 등록된 주민등록번호입니다.");
-            }
-            
-            // 3. 사용자 엔티티 생성
+            // 1. 사용자 엔티티 생성
             User user = new User();
             user.setAccount(request.getAccount());
-            user.setPassword(passwordEncoder.encode(request.getPassword())); // 암호 해싱
+            user.setPassword(passwordHashingService.encode(request.getPassword())); // 암호 해싱
             user.setName(request.getName());
             user.setResidentNumber(request.getResidentNumber());
+            user.setBirthDate(User.parseBirthDate(request.getResidentNumber())); // 연령대 조회용 생년월일
             user.setPhoneNumber(request.getPhoneNumber());
             user.setAddress(request.getAddress());
             
-            // 4. 사용자 저장
-            User savedUser = userRepository.save(user);
+            // 2. 사용자 저장 (계정/주민등록번호 중복은 유니크 제약 조건 위반으로 확인)
+            User savedUser = userRepository.saveAndFlush(user);
+            userCountService.userCreated();
             
             return UserRegistrationResponse.success(savedUser.getId());
             
+        } catch (DataIntegrityViolationException e) {
+            return UserRegistrationResponse.failure(duplicateMessage(e));
+        } catch (TaskRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return UserRegistrationResponse.failure("회원가입 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
+    /**
+     * 유니크 제약 조건 위반을 회원가입 실패 메시지로 변환
+     * @param e 제약 조건 위반 예외
+     * @return 위반한 제약 조건에 해당하는 실패 메시지
+     */
+    static String duplicateMessage(DataIntegrityViolationException e) {
+        String constraint = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (constraint.contains(User.UK_ACCOUNT)) {
+            return "이미 존재하는 계정입니다.";
+        }
+        if (constraint.contains(User.UK_RESIDENT_NUMBER)) {
+            return "이미 등록된 주민등록번호입니다.";
+        }
+        return "이미 존재하는 계정 또는 주민등록번호입니다.";
+    }
+    
+    // 제약 조건 이름 (DB 에 따라 이름을 추출하지 못하면 오류 메시지 전체)
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null ? message : "";
+    }
+    
     /**
      * 로그인 처리
+     * 메서드 트랜잭션을 새로 시작하지 않고 사용자 조회(리포지토리 호출)에만 트랜잭션을 사용하므로,
+     * 암호 검증 동안 DB 커넥션을 점유하지 않습니다.
+     * 암호 검증은 전용 실행기에서 수행되며, 처리 한도를 넘으면 TaskRejectedException 이 전달됩니다.
      * @param request 로그인 요청 정보
      * @return 로그인 응답
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LoginResponse loginUser(LoginRequest request) {
         try {
             // 1. 계정으로 사용자 조회
@@ -80,20 +127,44 @@ public class UserService {
             }
             
             // 2. 암호 검증
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
                 return LoginResponse.failure("계정 또는 암호가 일치하지 않습니다.");
             }
             
-            // 3. JWT 토큰 생성
+            // 3. 해시 설정이 바뀐 경우 재해싱 (평문 암호는 로그인 성공 시에만 알 수 있음)
+            upgradePasswordHash(user, request.getPassword());
+            
+            // 4. JWT 토큰 생성
             String token = jwtUtil.generateToken(user.getAccount(), user.getId());
             
             return LoginResponse.success(token, user.getId());
             
+        } catch (TaskRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return LoginResponse.failure("로그인 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
+    /**
+     * 저장된 암호 해시가 현재 설정과 다르면 새 설정으로 재해싱해 저장
+     * 재해싱에 실패해도 로그인은 계속 진행하며, 다음 로그인 시 다시 시도합니다.
+     * @param user 로그인한 사용자
+     * @param rawPassword 검증된 평문 암호
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+        
+        try {
+            String newPassword = passwordHashingService.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), user.getPassword(), newPassword);
+        } catch (Exception e) {
+            System.err.println(String.format("[WARN] 암호 해시 재생성 실패 - 사용자 ID: %d, 오류: %s", user.getId(), e.getMessage()));
+        }
+    }
+    
     /**
      * 계정으로 사용자 조회
      * @param account 계정
@@ -126,6 +197,72 @@ public class UserService {
         return userRepository.findAll(pageable);
     }
     
+    /**
+     * 모든 사용자 조회 (페이징, 전체 건수 미조회)
+     * @param pageable 페이징 정보
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Transactional(readOnly = true)
+    public Slice<User> findAllUsersWithoutCount(Pageable pageable) {
+        return userRepository.findSliceBy(pageable);
+    }
+    
+    /**
+     * 전체 사용자 수 (근사값, count 쿼리 없이 캐시된 값)
+     * @return 전체 사용자 수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long countUsersApproximately() {
+        return userCountService.getApproximateCount();
+    }
+    
+    /**
+     * 마지막으로 조회한 사용자 다음부터 조회 (키셋 페이징, ID 오름차순)
+     * @param lastId 이전 페이지의 마지막 사용자 ID
+     * @param size 페이지 크기
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Transactional(readOnly = true)
+    public Slice<User> findUsersAfter(Long lastId, int size) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, size));
+    }
+    
+    /**
+     * 행정구역별 사용자 조회 (페이징)
+     * @param region 가장 큰 단위의 행정구역 (예: 서울특별시)
+     * @param pageable 페이징 정보
+     * @return 페이징된 사용자 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<User> findUsersByRegion(String region, Pageable pageable) {
+        return userRepository.findByRegion(region, pageable);
+    }
+    
+    /**
+     * 행정구역별로 마지막으로 조회한 사용자 다음부터 조회 (키셋 페이징, ID 오름차순)
+     * @param region 가장 큰 단위의 행정구역
+     * @param lastId 이전 페이지의 마지막 사용자 ID
+     * @param size 페이지 크기
+     * @return 사용자 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Transactional(readOnly = true)
+    public Slice<User> findUsersByRegionAfter(String region, Long lastId, int size) {
+        return userRepository.findByRegionAndIdGreaterThanOrderByIdAsc(region, lastId, PageRequest.of(0, size));
+    }
+    
+    /**
+     * 행정구역별 사용자 수 (사용자 수 내림차순)
+     * @return 행정구역별 사용자 수
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> countUsersByRegion() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] regionAndCount : userRepository.countGroupByRegion()) {
+            counts.put((String) regionAndCount[0], (Long) regionAndCount[1]);
+        }
+        return counts;
+    }
+    
     /**
      * 사용자 정보 수정 (암호, 주소만)
      * @param id 사용자 ID
@@ -146,7 +283,7 @@ public class UserService {
             
             // 암호 수정
             if (request.hasPasswordUpdate()) {
-                user.setPassword(passwordEncoder.encode(request.getPassword()));
+                user.setPassword(passwordHashingService.encode(request.getPassword()));
             }
             
             // 주소 수정
@@ -155,6 +292,7 @@ public class UserService {
             }
             
             userRepository.save(user);
+            userDetailCache.evict(id);
             return true;
             
         } catch (Exception e) {
@@ -171,6 +309,8 @@ public class UserService {
         try {
             if (userRepository.existsById(id)) {
                 userRepository.deleteById(id);
+                userCountService.userDeleted();
+                userDetailCache.evict(id);
                 return true;
             }
             return false;
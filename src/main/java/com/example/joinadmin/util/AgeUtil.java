@@ -1,7 +1,6 @@
 package com.example.joinadmin.util;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class AgeUtil {
     
@@ -11,6 +10,81 @@ public class AgeUtil {
      * @return 만 나이
      */
     public static int calculateAge(String residentNumber) {
+        return calculateAge(extractBirthDate(residentNumber), LocalDate.now());
+    }
+    
+    /**
+     * 생년월일과 기준일로부터 만 나이를 계산합니다.
+     * @param birthDate 생년월일
+     * @param currentDate 기준일
+     * @return 만 나이
+     */
+    public static int calculateAge(LocalDate birthDate, LocalDate currentDate) {
+        // 만 나이 계산
+        int age = currentDate.getYear() - birthDate.getYear();
+        
+        // 생일이 지나지 않았으면 1살 빼기
+        if (currentDate.isBefore(birthDate.withYear(currentDate.getYear()))) {
+            age--;
+        }
+        
+        return age;
+    }
+    
+    /**
+     * 주민등록번호 문자를 직접 읽어 기준일의 만 나이를 계산합니다. (객체 생성 없음)
+     * 대상자 선정처럼 많은 사용자의 나이를 같은 기준일로 계산할 때 사용하며,
+     * 기준일은 호출 전에 한 번만 구해 연/월/일로 전달합니다.
+     * calculateAge(extractBirthDate(residentNumber), currentDate) 와 같은 결과를 돌려줍니다.
+     * @param residentNumber 주민등록번호 13자리
+     * @param currentYear 기준일 연도
+     * @param currentMonth 기준일 월 (1~12)
+     * @param currentDay 기준일 일
+     * @return 만 나이 (주민등록번호가 올바르지 않으면 -1)
+     */
+    public static int calculateAge(String residentNumber, int currentYear, int currentMonth, int currentDay) {
+        if (residentNumber == null || residentNumber.length() != 13) {
+            return -1;
+        }
+        
+        int yy = twoDigits(residentNumber, 0);
+        int month = twoDigits(residentNumber, 2);
+        int day = twoDigits(residentNumber, 4);
+        if (yy < 0 || month < 1 || month > 12 || day < 1) {
+            return -1;
+        }
+        
+        // 세기 판단 (1, 2: 1900년대, 3, 4: 2000년대)
+        int year;
+        switch (residentNumber.charAt(6)) {
+            case '1', '2' -> year = 1900 + yy;
+            case '3', '4' -> year = 2000 + yy;
+            default -> {
+                return -1;
+            }
+        }
+        if (day > lengthOfMonth(year, month)) {
+            return -1;
+        }
+        
+        // 윤년 2월 29일 출생자는 평년에 2월 28일을 생일로 봄 (LocalDate.withYear 와 동일)
+        if (month == 2 && day == 29 && !isLeapYear(currentYear)) {
+            day = 28;
+        }
+        
+        int age = currentYear - year;
+        if (currentMonth < month || (currentMonth == month && currentDay < day)) {
+            age--;
+        }
+        return age;
+    }
+    
+    /**
+     * 주민등록번호로부터 생년월일을 추출합니다.
+     * @param residentNumber 주민등록번호 13자리
+     * @return 생년월일
+     */
+    public static LocalDate extractBirthDate(String residentNumber) {
         if (residentNumber == null || residentNumber.length() != 13) {
             throw new IllegalArgumentException("주민등록번호는 13자리여야 합니다.");
         }
@@ -34,17 +108,47 @@ public class AgeUtil {
         int month = Integer.parseInt(birthDateStr.substring(2, 4));
         int day = Integer.parseInt(birthDateStr.substring(4, 6));
         
-        LocalDate birthDate = LocalDate.of(year, month, day);
-        LocalDate currentDate = LocalDate.now();
-        
-        // 만 나이 계산
-        int age = currentDate.getYear() - birthDate.getYear();
+        return LocalDate.of(year, month, day);
+    }
+    
+    /**
+     * 기준일에 해당 나이 이상이 되는 가장 늦은 생년월일을 계산합니다.
+     * 평년의 2월 28일에는 윤년 2월 29일 출생자도 나이를 먹는 것으로 보므로
+     * calculateAge 와 동일한 기준의 경계값을 돌려줍니다.
+     * @param age 만 나이
+     * @param currentDate 기준일
+     * @return 생년월일 상한 (포함)
+     */
+    public static LocalDate latestBirthDateForAge(int age, LocalDate currentDate) {
+        LocalDate birthDate = currentDate.minusYears(age);
         
-        // 생일이 지나지 않았으면 1살 빼기
-        if (currentDate.isBefore(birthDate.withYear(currentDate.getYear()))) {
-            age--;
+        if (!currentDate.isLeapYear() && birthDate.isLeapYear()
+                && birthDate.getMonthValue() == 2 && birthDate.getDayOfMonth() == 28) {
+            return birthDate.plusDays(1);
         }
         
-        return age;
+        return birthDate;
+    }
+    
+    // residentNumber[offset, offset + 2) 의 두 자리 숫자 (숫자가 아니면 -1)
+    private static int twoDigits(String residentNumber, int offset) {
+        int tens = residentNumber.charAt(offset) - '0';
+        int ones = residentNumber.charAt(offset + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+    
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+    
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
     }
 }
\ No newline at end of file
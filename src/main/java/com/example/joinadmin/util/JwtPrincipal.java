@@ -0,0 +1,40 @@
+package com.example.joinadmin.util;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT 의 사용자 정보
+ */
+public final class JwtPrincipal {
+    
+    private final String account;
+    private final Long userId;
+    private final Date expiration;
+    
+    public JwtPrincipal(String account, Long userId, Date expiration) {
+        this.account = account;
+        this.userId = userId;
+        this.expiration = expiration;
+    }
+    
+    public String getAccount() {
+        return account;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public Date getExpiration() {
+        return expiration;
+    }
+    
+    @Override
+    public String toString() {
+        return "JwtPrincipal{" +
+                "account='" + account + '\'' +
+                ", userId=" + userId +
+                ", expiration=" + expiration +
+                '}';
+    }
+}
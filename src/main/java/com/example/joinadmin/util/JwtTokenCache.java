@@ -0,0 +1,83 @@
+package com.example.joinadmin.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 캐시
+ * 같은 토큰으로 반복 요청하면 서명 검증과 Base64/JSON 디코딩 없이 캐시된 사용자 정보를 사용합니다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 저장하며, 항목마다 토큰의 만료 시각(exp)까지만 보관합니다.
+ * 만료 시각이 지난 항목은 조회 시 제거하고 거부하며, 다시 조회되지 않는 항목도 주기적으로 제거해
+ * 발급 시각과 관계없이 만료된 토큰이 캐시 용량을 차지하지 않습니다.
+ */
+@Component
+public class JwtTokenCache {
+    
+    private final JwtUtil jwtUtil;
+    private final Cache<HashCode, JwtPrincipal> cache;
+    
+    @Autowired
+    public JwtTokenCache(JwtUtil jwtUtil,
+                         @Value("${jwt.cache.max-size:10000}") long maxSize,
+                         @Value("${jwt.expiration:86400000}") long jwtExpiration) {
+        this.jwtUtil = jwtUtil;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(jwtExpiration, TimeUnit.MILLISECONDS) // 상한 (항목별 만료는 exp 기준으로 제거)
+                .build();
+    }
+    
+    /**
+     * 토큰 검증 (캐시 우선)
+     * @param token JWT 토큰
+     * @return 검증된 사용자 정보 (유효하지 않거나 만료된 토큰이면 null)
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                cache.invalidate(key);
+                return null;
+            }
+            return cached;
+        }
+        
+        JwtPrincipal principal = jwtUtil.parseToken(token);
+        if (principal != null) {
+            cache.put(key, principal);
+        }
+        return principal;
+    }
+    
+    /**
+     * 만료 시각이 지난 항목 제거
+     * 캐시에 넣은 시점의 남은 유효기간이 짧은 토큰도 exp 가 지나면 바로 제거되도록 주기적으로 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        cache.asMap().values().removeIf(this::isExpired);
+    }
+    
+    public long size() {
+        return cache.size();
+    }
+    
+    private boolean isExpired(JwtPrincipal principal) {
+        return principal.getExpiration() != null && !principal.getExpiration().after(new Date());
+    }
+}
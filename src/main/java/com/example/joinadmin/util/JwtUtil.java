@@ -1,6 +1,7 @@
 package com.example.joinadmin.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,10 +17,16 @@ public class JwtUtil {
     private final SecretKey secretKey;
     private final long jwtExpiration;
     
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser jwtParser;
+    
     public JwtUtil(@Value("${jwt.secret:mySecretKeyThatIsLongEnoughForHS256Algorithm}") String secret,
                    @Value("${jwt.expiration:86400000}") long jwtExpiration) { // 24시간
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
     
     public String generateToken(String account, Long userId) {
@@ -35,46 +42,42 @@ public class JwtUtil {
                 .compact();
     }
     
+    /**
+     * 토큰 서명/만료를 한 번 검증하고 사용자 정보를 반환
+     * @param token JWT 토큰
+     * @return 검증된 사용자 정보 (유효하지 않거나 만료된 토큰이면 null)
+     */
+    public JwtPrincipal parseToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            return new JwtPrincipal(claims.getSubject(), claims.get("userId", Long.class), claims.getExpiration());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    // 아래 헬퍼는 parseToken 을 한 번만 호출하는 래퍼 (유효하지 않거나 만료된 토큰이면 null/false/true)
     public String getAccountFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        JwtPrincipal principal = parseToken(token);
+        return principal != null ? principal.getAccount() : null;
     }
     
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("userId", Long.class);
+        JwtPrincipal principal = parseToken(token);
+        return principal != null ? principal.getUserId() : null;
     }
     
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseToken(token) != null;
     }
     
+    // parseToken 이 만료를 함께 검증하므로 유효하지 않은 토큰과 만료된 토큰 모두 true
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+        return parseToken(token) == null;
+    }
+    
+    // 서명 검증 (만료된 토큰은 ExpiredJwtException)
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.example.joinadmin.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자 ID 를 long 배열에 그대로 담는 가변 길이 버퍼
+ * List&lt;Long&gt; 나 List&lt;User&gt; 대신 사용해 대상자 선정 중 ID 하나당 8바이트만 사용합니다.
+ * 스레드 안전하지 않으므로 작업마다 따로 만들고, 결과는 addAll 로 합칩니다.
+ */
+public final class LongIdBuffer {
+    
+    private long[] ids;
+    private int size;
+    
+    public LongIdBuffer(int initialCapacity) {
+        this.ids = new long[Math.max(initialCapacity, 1)];
+    }
+    
+    public void add(long id) {
+        ensureCapacity(size + 1);
+        ids[size++] = id;
+    }
+    
+    /**
+     * 다른 버퍼의 ID 를 순서대로 뒤에 붙입니다.
+     * @param other 합칠 버퍼
+     */
+    public void addAll(LongIdBuffer other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        size += other.size;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+    
+    /**
+     * [from, to) 구간의 ID 목록 (ID 목록으로 조회하는 쿼리에 넘길 때 사용)
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (미포함)
+     * @return ID 목록
+     */
+    public List<Long> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", size: " + size);
+        }
+        List<Long> slice = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            slice.add(ids[i]);
+        }
+        return slice;
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, ids.length + (ids.length >> 1)));
+        }
+    }
+}
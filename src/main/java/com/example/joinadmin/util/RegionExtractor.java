@@ -0,0 +1,129 @@
+package com.example.joinadmin.util;
+
+/**
+ * 주소의 가장 큰 단위 행정구역 추출기
+ * 17개 광역자치단체와 그 약칭/옛 명칭 사전을 주소 앞부분과 직접 비교하므로 정규식, split 없이 동작하고,
+ * 사전에 있는 행정구역은 새 문자열을 만들지 않고 항상 같은 정식 명칭 인스턴스(intern 된 상수)를 반환합니다.
+ * 사전에 없는 주소는 기존과 같이 첫 번째 공백 이전까지를 반환합니다.
+ */
+public final class RegionExtractor {
+    
+    // 17개 광역자치단체 정식 명칭
+    public static final String SEOUL = "서울특별시";
+    public static final String BUSAN = "부산광역시";
+    public static final String DAEGU = "대구광역시";
+    public static final String INCHEON = "인천광역시";
+    public static final String GWANGJU = "광주광역시";
+    public static final String DAEJEON = "대전광역시";
+    public static final String ULSAN = "울산광역시";
+    public static final String SEJONG = "세종특별자치시";
+    public static final String GYEONGGI = "경기도";
+    public static final String GANGWON = "강원특별자치도";
+    public static final String CHUNGBUK = "충청북도";
+    public static final String CHUNGNAM = "충청남도";
+    public static final String JEONBUK = "전북특별자치도";
+    public static final String JEONNAM = "전라남도";
+    public static final String GYEONGBUK = "경상북도";
+    public static final String GYEONGNAM = "경상남도";
+    public static final String JEJU = "제주특별자치도";
+    
+    // 주소 첫 단어 -> 정식 명칭 ("광주시" 는 경기도 광주시와 구분할 수 없어 제외)
+    private static final String[][] DICTIONARY = {
+            {SEOUL, SEOUL}, {"서울시", SEOUL}, {"서울", SEOUL},
+            {BUSAN, BUSAN}, {"부산시", BUSAN}, {"부산", BUSAN},
+            {DAEGU, DAEGU}, {"대구시", DAEGU}, {"대구", DAEGU},
+            {INCHEON, INCHEON}, {"인천시", INCHEON}, {"인천", INCHEON},
+            {GWANGJU, GWANGJU}, {"광주", GWANGJU},
+            {DAEJEON, DAEJEON}, {"대전시", DAEJEON}, {"대전", DAEJEON},
+            {ULSAN, ULSAN}, {"울산시", ULSAN}, {"울산", ULSAN},
+            {SEJONG, SEJONG}, {"세종시", SEJONG}, {"세종", SEJONG},
+            {GYEONGGI, GYEONGGI}, {"경기", GYEONGGI},
+            {GANGWON, GANGWON}, {"강원도", GANGWON}, {"강원", GANGWON},
+            {CHUNGBUK, CHUNGBUK}, {"충북", CHUNGBUK},
+            {CHUNGNAM, CHUNGNAM}, {"충남", CHUNGNAM},
+            {JEONBUK, JEONBUK}, {"전라북도", JEONBUK}, {"전북", JEONBUK},
+            {JEONNAM, JEONNAM}, {"전남", JEONNAM},
+            {GYEONGBUK, GYEONGBUK}, {"경북", GYEONGBUK},
+            {GYEONGNAM, GYEONGNAM}, {"경남", GYEONGNAM},
+            {JEJU, JEJU}, {"제주도", JEJU}, {"제주", JEJU}
+    };
+    
+    // 비교 순서대로 펼친 사전 (첫 글자를 먼저 비교해 대부분의 항목을 바로 건너뜀)
+    private static final char[] FIRST_CHARS = new char[DICTIONARY.length];
+    private static final String[] NAMES = new String[DICTIONARY.length];
+    private static final String[] CANONICAL = new String[DICTIONARY.length];
+    
+    static {
+        for (int i = 0; i < DICTIONARY.length; i++) {
+            NAMES[i] = DICTIONARY[i][0];
+            CANONICAL[i] = DICTIONARY[i][1].intern();
+            FIRST_CHARS[i] = NAMES[i].charAt(0);
+        }
+    }
+    
+    private RegionExtractor() {}
+    
+    /**
+     * 주소에서 가장 큰 단위의 행정구역을 추출합니다.
+     * 예: "서울특별시 강남구 테헤란로 123" -> "서울특별시", "서울 강남구" -> "서울특별시"
+     * @param fullAddress 전체 주소
+     * @return 정식 행정구역 명칭 (사전에 없으면 첫 번째 공백 이전까지, 주소가 없으면 빈 문자열)
+     */
+    public static String extract(String fullAddress) {
+        if (fullAddress == null) {
+            return "";
+        }
+        
+        // 앞뒤 공백 제외 (String.trim 과 같은 기준)
+        int start = 0;
+        int end = fullAddress.length();
+        while (start < end && fullAddress.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && fullAddress.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return "";
+        }
+        
+        // 첫 번째 단어의 끝
+        int wordEnd = fullAddress.indexOf(' ', start);
+        if (wordEnd < 0 || wordEnd > end) {
+            wordEnd = end;
+        }
+        
+        String canonical = lookup(fullAddress, start, wordEnd);
+        return canonical != null ? canonical : fullAddress.substring(start, wordEnd);
+    }
+    
+    /**
+     * 행정구역 명칭을 정식 명칭으로 변환합니다. (예: "서울" -> "서울특별시")
+     * @param region 행정구역 명칭
+     * @return 정식 명칭 인스턴스 (사전에 없으면 입력값 그대로)
+     */
+    public static String canonicalize(String region) {
+        if (region == null) {
+            return null;
+        }
+        String canonical = lookup(region, 0, region.length());
+        return canonical != null ? canonical : region;
+    }
+    
+    // address[start, end) 와 정확히 일치하는 사전 항목의 정식 명칭
+    private static String lookup(String address, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        char first = address.charAt(start);
+        for (int i = 0; i < NAMES.length; i++) {
+            if (FIRST_CHARS[i] == first
+                    && NAMES[i].length() == length
+                    && address.regionMatches(start, NAMES[i], 0, length)) {
+                return CANONICAL[i];
+            }
+        }
+        return null;
+    }
+}
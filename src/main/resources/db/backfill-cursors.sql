@@ -0,0 +1,8 @@
+-- 백필 진행 위치 테이블 생성
+-- 값을 계산할 수 없어 null 로 남는 행을 기동할 때마다 다시 조회하지 않도록, 기존 PostgreSQL DB 에서 한 번 실행합니다.
+
+CREATE TABLE IF NOT EXISTS backfill_cursors (
+    name VARCHAR(50) PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
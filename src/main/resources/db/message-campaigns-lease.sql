@@ -0,0 +1,6 @@
+-- message_campaigns 테이블에 발송 작업 점유 컬럼 추가
+-- 여러 인스턴스가 같은 발송 작업을 동시에 재실행하지 않도록, 기존 PostgreSQL 테이블에서 한 번 실행합니다.
+-- 점유 정보가 없는 기존 미완료 작업은 처음 확인한 인스턴스 한 곳이 점유해 이어서 실행합니다.
+
+ALTER TABLE message_campaigns ADD COLUMN IF NOT EXISTS owner_id VARCHAR(64);
+ALTER TABLE message_campaigns ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP(6);
@@ -0,0 +1,10 @@
+-- users 테이블에 생년월일 컬럼 추가 및 (birth_date, id) 인덱스 생성
+-- 기존 PostgreSQL 테이블에서 한 번 실행하며, 값은 애플리케이션 기동 후 BirthDateBackfillService 가 백그라운드에서 주민등록번호로부터 채웁니다.
+-- 메시지 발송 대상자를 (birth_date, id) 키셋 페이징으로 조회하므로 기존 birth_date 단일 인덱스는 (birth_date, id) 로 교체합니다.
+-- CONCURRENTLY 는 트랜잭션 블록 안에서 실행할 수 없으므로 각 문장을 따로 실행합니다.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS birth_date DATE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_birth_date_id ON users (birth_date, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_birth_date;
+ALTER INDEX idx_users_birth_date_id RENAME TO idx_users_birth_date;
@@ -0,0 +1,17 @@
+-- 사용자 ID 생성 방식 전환 (IDENTITY -> 시퀀스, pooled 옵티마이저)
+-- 기존 users 테이블이 있는 PostgreSQL 에서 애플리케이션을 중지한 뒤 한 번 실행합니다.
+-- 시퀀스 증가 단위는 User.ID_ALLOCATION_SIZE(50) 와 같아야 합니다.
+
+BEGIN;
+
+-- 1. 컬럼의 IDENTITY 속성 제거 (기존 ID 값은 그대로 유지)
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- 2. 사용자 ID 시퀀스 생성
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+
+-- 3. pooled 옵티마이저는 nextval 값 N 을 받으면 (N - 49) ~ N 을 사용하므로,
+--    다음 nextval 이 (기존 최대 ID + 50) 이 되도록 설정해 기존 ID 와 겹치지 않게 함
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+
+COMMIT;
@@ -0,0 +1,7 @@
+-- users 테이블에 행정구역 컬럼 추가
+-- 기존 PostgreSQL 테이블에서 한 번 실행하며, 값은 애플리케이션 기동 후 RegionBackfillService 가 백그라운드에서 주소로부터 채웁니다.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS region VARCHAR(20);
+
+-- 행정구역별 조회/건수 및 키셋 페이징용 인덱스
+CREATE INDEX IF NOT EXISTS idx_users_region ON users (region, id);
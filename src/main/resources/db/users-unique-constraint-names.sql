@@ -0,0 +1,21 @@
+-- users 테이블 유니크 제약 조건 이름 변경
+-- 회원가입은 위반한 제약 조건 이름(User.UK_ACCOUNT, User.UK_RESIDENT_NUMBER)으로 중복 사유를 구분하므로,
+-- 자동 생성된 이름으로 만들어진 기존 PostgreSQL 테이블에서 한 번 실행합니다.
+
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN
+        SELECT con.conname, att.attname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND att.attname IN ('account', 'resident_number')
+          AND con.conname <> 'uk_users_' || att.attname
+    LOOP
+        EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', c.conname, 'uk_users_' || c.attname);
+    END LOOP;
+END $$;
@@ -0,0 +1,64 @@
+package com.example.joinadmin.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingAuthenticationProviderTest {
+    
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    
+    // admin/1212 만 인증하는 (BCrypt 비교를 대신하는) 인증 처리기
+    private final AuthenticationProvider delegate = new AuthenticationProvider() {
+        @Override
+        public Authentication authenticate(Authentication authentication) {
+            delegateCalls.incrementAndGet();
+            if ("admin".equals(authentication.getName()) && "1212".equals(authentication.getCredentials())) {
+                return UsernamePasswordAuthenticationToken.authenticated(
+                        "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+            }
+            throw new BadCredentialsException("Bad credentials");
+        }
+        
+        @Override
+        public boolean supports(Class<?> authentication) {
+            return true;
+        }
+    };
+    
+    private final CachingAuthenticationProvider provider =
+            new CachingAuthenticationProvider(delegate, Duration.ofMinutes(1), 100);
+    
+    @Test
+    @DisplayName("같은 인증 정보로 반복 인증하면 한 번만 검증")
+    void authenticate_RepeatedValidCredentials_ShouldVerifyOnce() {
+        Authentication first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1212"));
+        Authentication second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1212"));
+        
+        assertThat(first.isAuthenticated()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(delegateCalls.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("잘못된 암호는 캐시하지 않고 매번 검증")
+    void authenticate_BadCredentials_ShouldAlwaysVerify() {
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1212"));
+        
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        assertThat(delegateCalls.get()).isEqualTo(3);
+    }
+}
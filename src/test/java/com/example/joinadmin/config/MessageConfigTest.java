@@ -0,0 +1,83 @@
+package com.example.joinadmin.config;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.service.CampaignProgress;
+import com.example.joinadmin.service.DeliveryOutcome;
+import com.example.joinadmin.service.MessageDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class MessageConfigTest {
+    
+    private final MessageConfig config = new MessageConfig();
+    
+    @Test
+    @DisplayName("발송 워커 - virtual 모드는 가상 스레드 실행기를 사용하고 동시 실행 수를 max-concurrency 로 제한")
+    void dispatchExecutor_VirtualMode_ShouldUseLimitedVirtualThreads() {
+        // Given - message.dispatch.mode=virtual, message.dispatch.max-concurrency=3
+        TaskExecutor executor = config.dispatchExecutor("virtual", 16, 3);
+        
+        // Then
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(((SimpleAsyncTaskExecutor) executor).getConcurrencyLimit()).isEqualTo(3);
+        
+        // Given - 응답이 50ms 걸리는 카카오톡 API
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.times(10), requestTo("http://localhost:8081/kakaotalk-messages"))
+                .andRespond(request -> {
+                    virtualThreads.add(Thread.currentThread().isVirtual());
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    return withSuccess().createResponse(request);
+                });
+        KakaoProperties kakaoProperties = new KakaoProperties();
+        kakaoProperties.setRatePerMinute(600000);
+        MessageDispatcher dispatcher = new MessageDispatcher(executor, restTemplate, null, kakaoProperties, 500, "blocking", 1000);
+        
+        // When - 대상자 청크 발송
+        Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(10), "공지", new CampaignProgress(), (userId, outcome) -> {});
+        
+        // Then - 청크 전체가 가상 스레드에서 발송되고, 동시 호출은 한도까지만 늘어남
+        server.verify();
+        assertThat(outcomes).hasSize(10);
+        assertThat(outcomes.values()).containsOnly(DeliveryOutcome.KAKAO_SENT);
+        assertThat(virtualThreads).hasSize(10).containsOnly(true);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+    
+    private static List<User> users(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> {
+                    User user = new User("user" + i, "encodedPassword", "사용자" + i, "9001011234567", String.format("010%08d", i), "서울특별시 강남구");
+                    user.setId((long) i);
+                    return user;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.joinadmin.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigTest {
+    
+    private final PasswordEncoderConfig config = new PasswordEncoderConfig();
+    
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시 검증 및 재해싱 대상 판단")
+    void legacyBCryptHash_ShouldMatchAndNeedUpgrade() {
+        PasswordEncoder passwordEncoder = config.passwordEncoder("bcrypt", 4);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        
+        assertThat(passwordEncoder.matches("password123", legacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("BCrypt 비용이 설정과 다르면 재해싱 대상")
+    void bcryptStrengthChange_ShouldNeedUpgrade() {
+        String hash = config.passwordEncoder("bcrypt", 4).encode("password123");
+        
+        assertThat(config.passwordEncoder("bcrypt", 4).upgradeEncoding(hash)).isFalse();
+        assertThat(config.passwordEncoder("bcrypt", 5).upgradeEncoding(hash)).isTrue();
+        // 비용을 낮추는 전환도 재해싱 대상
+        assertThat(config.passwordEncoder("bcrypt", 4).upgradeEncoding(config.passwordEncoder("bcrypt", 5).encode("password123"))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("알고리즘 변경 시 기존 해시로 검증 가능하고 재해싱 대상")
+    void algorithmChange_ShouldMatchOldHashAndNeedUpgrade() {
+        String bcryptHash = config.passwordEncoder("bcrypt", 4).encode("password123");
+        PasswordEncoder pbkdf2 = config.passwordEncoder("pbkdf2", 4);
+        
+        assertThat(pbkdf2.matches("password123", bcryptHash)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(bcryptHash)).isTrue();
+        assertThat(pbkdf2.encode("password123")).startsWith("{pbkdf2}");
+    }
+}
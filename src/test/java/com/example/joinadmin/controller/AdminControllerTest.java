@@ -1,8 +1,11 @@
 package com.example.joinadmin.controller;
 
+import com.example.joinadmin.dto.UserBatchRegistrationRequest;
+import com.example.joinadmin.dto.UserRegistrationRequest;
 import com.example.joinadmin.dto.UserUpdateRequest;
 import com.example.joinadmin.entity.User;
 import com.example.joinadmin.repository.UserRepository;
+import com.example.joinadmin.service.UserCountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,12 +14,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,11 +41,14 @@ class AdminControllerTest {
     private UserRepository userRepository;
     
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
     
     @Autowired
     private ObjectMapper objectMapper;
     
+    @Autowired
+    private UserCountService userCountService;
+    
     private User testUser1;
     private User testUser2;
     
@@ -111,6 +121,59 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.totalPages").value(2));
     }
     
+    @Test
+    @DisplayName("회원 목록 조회 - 키셋 페이징")
+    void getUsers_WithLastId_ShouldReturnNextUsers() throws Exception {
+        // 첫 페이지의 nextCursor 는 마지막 회원 ID
+        mockMvc.perform(get("/api/admin/users")
+                .param("size", "1")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(testUser1.getId()))
+                .andExpect(jsonPath("$.nextCursor").value(testUser1.getId()));
+        
+        mockMvc.perform(get("/api/admin/users")
+                .param("size", "1")
+                .param("lastId", String.valueOf(testUser1.getId()))
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(testUser2.getId()))
+                .andExpect(jsonPath("$.totalElements").value(nullValue()))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+    
+    @Test
+    @DisplayName("회원 목록 조회 - 전체 건수 미조회")
+    void getUsers_WithoutTotal_ShouldSkipCount() throws Exception {
+        mockMvc.perform(get("/api/admin/users")
+                .param("size", "1")
+                .param("withTotal", "false")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(nullValue()))
+                .andExpect(jsonPath("$.totalPages").value(nullValue()))
+                .andExpect(jsonPath("$.last").value(false));
+    }
+    
+    @Test
+    @DisplayName("회원 목록 조회 - 근사 전체 건수")
+    void getUsers_WithApproximateCount_ShouldReturnCachedTotal() throws Exception {
+        userCountService.refresh();
+        
+        mockMvc.perform(get("/api/admin/users")
+                .param("size", "1")
+                .param("count", "approx")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.approximateTotal").value(true));
+    }
+    
     @Test
     @DisplayName("특정 회원 조회 - 존재하는 회원")
     void getUser_WithValidId_ShouldReturnUser() throws Exception {
@@ -228,6 +291,67 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.message").value("회원을 찾을 수 없거나 삭제에 실패했습니다."));
     }
     
+    @Test
+    @DisplayName("회원 조회 - 행정구역 필터")
+    void getUsers_WithRegion_ShouldReturnUsersInRegion() throws Exception {
+        mockMvc.perform(get("/api/admin/users")
+                .param("region", "부산광역시")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].account").value("testuser2"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+    
+    @Test
+    @DisplayName("행정구역별 회원 수 조회")
+    void getUserCountsByRegion_ShouldReturnCounts() throws Exception {
+        mockMvc.perform(get("/api/admin/users/regions")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['서울특별시']").value(1))
+                .andExpect(jsonPath("$['부산광역시']").value(1));
+    }
+    
+    @Test
+    @DisplayName("일괄 회원가입 - 행별 결과 반환")
+    void registerUsers_WithMixedRows_ShouldReturnResultPerRow() throws Exception {
+        UserBatchRegistrationRequest request = new UserBatchRegistrationRequest(List.of(
+                new UserRegistrationRequest("batchuser1", "password123", "이영희", "9001012345678", "01011112222", "서울특별시 종로구"),
+                new UserRegistrationRequest("testuser1", "password123", "박민수", "9001012345679", "01011113333", "서울특별시 중구"),
+                new UserRegistrationRequest("batchuser2", "password123", "최지우", "123", "01011114444", "대전광역시 서구"),
+                new UserRegistrationRequest("batchuser1", "password123", "정하늘", "9001012345670", "01011115555", "부산광역시 중구")
+        ));
+        
+        mockMvc.perform(post("/api/admin/users/batch")
+                .with(httpBasic("admin", "1212"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(4))
+                .andExpect(jsonPath("$.successCount").value(1))
+                .andExpect(jsonPath("$.failureCount").value(3))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].userId").isNumber())
+                .andExpect(jsonPath("$.results[1].message").value("이미 존재하는 계정입니다."))
+                .andExpect(jsonPath("$.results[2].message").value("입력값 오류: residentNumber: 주민등록번호는 13자리 숫자여야 합니다"))
+                .andExpect(jsonPath("$.results[3].message").value("요청 내 중복된 계정입니다."));
+        
+        User saved = userRepository.findByAccount("batchuser1").orElseThrow();
+        assertThat(passwordEncoder.matches("password123", saved.getPassword())).isTrue();
+        assertThat(saved.getBirthDate()).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("일괄 회원가입 - 빈 목록")
+    void registerUsers_WithEmptyList_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/admin/users/batch")
+                .with(httpBasic("admin", "1212"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UserBatchRegistrationRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     @DisplayName("관리자 API 인증 실패 테스트")
     void adminApi_WithoutAuth_ShouldReturnUnauthorized() throws Exception {
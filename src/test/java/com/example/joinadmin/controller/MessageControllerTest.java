@@ -1,9 +1,13 @@
 package com.example.joinadmin.controller;
 
 import com.example.joinadmin.dto.MessageRequest;
+import com.example.joinadmin.entity.MessageDelivery;
 import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.MessageDeliveryRepository;
 import com.example.joinadmin.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,20 +15,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
-@Transactional
 @ActiveProfiles("test")
 class MessageControllerTest {
     
@@ -35,7 +39,10 @@ class MessageControllerTest {
     private UserRepository userRepository;
     
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private MessageDeliveryRepository messageDeliveryRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
     
     @Autowired
     private ObjectMapper objectMapper;
@@ -49,6 +56,12 @@ class MessageControllerTest {
         createTestUsers();
     }
     
+    @AfterEach
+    void tearDown() {
+        // 발송 대상 선정은 별도 스레드의 트랜잭션에서 수행되므로 커밋된 데이터를 직접 정리
+        userRepository.deleteAll();
+    }
+    
     private void createTestUsers() {
         // 10대 사용자 (2010년 출생)
         createUser("teenager1", "10대사용자1", "1001011234567", "01010001111");
@@ -90,12 +103,10 @@ class MessageControllerTest {
                 .with(httpBasic("admin", "1212"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").value("메시지 발송이 완료되었습니다."))
-                .andExpect(jsonPath("$.targetUserCount").exists())
-                .andExpect(jsonPath("$.successCount").exists())
-                .andExpect(jsonPath("$.failCount").exists());
+                .andExpect(jsonPath("$.message").value("메시지 발송 작업이 등록되었습니다."))
+                .andExpect(jsonPath("$.campaignId").exists());
     }
     
     @Test
@@ -107,12 +118,10 @@ class MessageControllerTest {
                 .with(httpBasic("admin", "1212"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").value("메시지 발송이 완료되었습니다."))
-                .andExpect(jsonPath("$.targetUserCount").exists()) // 실제 나이에 따라 달라질 수 있음
-                .andExpect(jsonPath("$.successCount").exists())
-                .andExpect(jsonPath("$.failCount").exists());
+                .andExpect(jsonPath("$.message").value("메시지 발송 작업이 등록되었습니다."))
+                .andExpect(jsonPath("$.campaignId").exists());
     }
     
     @Test
@@ -120,16 +129,14 @@ class MessageControllerTest {
     void sendMessage_NoTargetUsers_ShouldReturnSuccess() throws Exception {
         MessageRequest request = new MessageRequest(70, 80, "70-80대 대상 메시지입니다.");
         
-        mockMvc.perform(post("/api/admin/messages")
-                .with(httpBasic("admin", "1212"))
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").value("메시지 발송이 완료되었습니다."))
-                .andExpect(jsonPath("$.targetUserCount").value(0))
-                .andExpect(jsonPath("$.successCount").value(0))
-                .andExpect(jsonPath("$.failCount").value(0));
+        long campaignId = submitCampaign(request);
+        
+        awaitCompletion(campaignId)
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.targetedCount").value(0))
+                .andExpect(jsonPath("$.kakaoSentCount").value(0))
+                .andExpect(jsonPath("$.smsSentCount").value(0))
+                .andExpect(jsonPath("$.failedCount").value(0));
     }
     
     @Test
@@ -246,11 +253,9 @@ class MessageControllerTest {
                 .with(httpBasic("admin", "1212"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.targetUserCount").exists()) // 실제 나이에 따라 달라질 수 있음
-                .andExpect(jsonPath("$.successCount").exists())
-                .andExpect(jsonPath("$.failCount").exists());
+                .andExpect(jsonPath("$.campaignId").exists());
     }
     
     @Test
@@ -274,12 +279,89 @@ class MessageControllerTest {
         
         MessageRequest request = new MessageRequest(30, 30, "정확히 30세 대상 메시지");
         
-        mockMvc.perform(post("/api/admin/messages")
+        long campaignId = submitCampaign(request);
+        
+        awaitCompletion(campaignId)
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.targetedCount").value(1)); // 정확히 30세 사용자 1명
+    }
+    
+    @Test
+    @DisplayName("발송 작업 진행 현황 조회 - 카카오톡/SMS/실패 건수 합계는 대상자 수와 일치")
+    void getCampaign_AfterCompletion_ShouldReportAllTargets() throws Exception {
+        MessageRequest request = new MessageRequest(20, 39, "20-30대 대상 메시지입니다.");
+        
+        long campaignId = submitCampaign(request);
+        
+        String body = awaitCompletion(campaignId)
+                .andExpect(jsonPath("$.campaignId").value(campaignId))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.startedAt").exists())
+                .andExpect(jsonPath("$.finishedAt").exists())
+                .andReturn().getResponse().getContentAsString();
+        
+        JsonNode status = objectMapper.readTree(body);
+        long processed = status.get("kakaoSentCount").asLong()
+                + status.get("smsSentCount").asLong()
+                + status.get("failedCount").asLong();
+        assertThat(processed).isEqualTo(status.get("targetedCount").asLong());
+        
+        // 대상자마다 발송 이력이 한 건씩 기록됨 (실패 건은 채널 없이 기록)
+        assertThat(messageDeliveryRepository.countByCampaignIdAndChannelAndStatus(
+                campaignId, MessageDelivery.Channel.KAKAO, MessageDelivery.Status.DELIVERED))
+                .isEqualTo(status.get("kakaoSentCount").asLong());
+        assertThat(messageDeliveryRepository.countByCampaignIdAndChannelAndStatus(
+                campaignId, MessageDelivery.Channel.SMS, MessageDelivery.Status.DELIVERED))
+                .isEqualTo(status.get("smsSentCount").asLong());
+        assertThat(messageDeliveryRepository.countByCampaignIdAndChannelAndStatus(
+                campaignId, null, MessageDelivery.Status.FAILED))
+                .isEqualTo(status.get("failedCount").asLong());
+    }
+    
+    @Test
+    @DisplayName("발송 작업 진행 현황 조회 - 존재하지 않는 작업")
+    void getCampaign_NotFound_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/admin/messages/{campaignId}", 999999L)
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("발송 작업 목록 조회")
+    void getCampaigns_ShouldReturnPagedCampaigns() throws Exception {
+        long campaignId = submitCampaign(new MessageRequest(70, 80, "목록 조회용 메시지"));
+        
+        mockMvc.perform(get("/api/admin/messages")
+                .with(httpBasic("admin", "1212")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].campaignId").value(campaignId));
+    }
+    
+    private long submitCampaign(MessageRequest request) throws Exception {
+        String body = mockMvc.perform(post("/api/admin/messages")
                 .with(httpBasic("admin", "1212"))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.targetUserCount").value(1)); // 정확히 30세 사용자 1명
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        
+        return objectMapper.readTree(body).get("campaignId").asLong();
+    }
+    
+    // 발송 작업이 종료될 때까지 진행 현황을 조회
+    private ResultActions awaitCompletion(long campaignId) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (true) {
+            ResultActions result = mockMvc.perform(get("/api/admin/messages/{campaignId}", campaignId)
+                    .with(httpBasic("admin", "1212")))
+                    .andExpect(status().isOk());
+            
+            String status = objectMapper.readTree(result.andReturn().getResponse().getContentAsString())
+                    .get("status").asText();
+            if ("COMPLETED".equals(status) || "FAILED".equals(status) || System.currentTimeMillis() > deadline) {
+                return result;
+            }
+            Thread.sleep(100);
+        }
     }
 }
\ No newline at end of file
@@ -115,7 +115,7 @@ class UserDetailResponseTest {
     }
     
     @Test
-    @DisplayName("주소 추출 - 전라북도")
+    @DisplayName("주소 추출 - 전라북도 (옛 명칭은 전북특별자치도로 변환)")
     void addressExtraction_Jeonbuk_ShouldReturnJeonbuk() {
         // Given
         User user = createTestUser("전라북도 전주시 완산구 효자동");
@@ -124,7 +124,7 @@ class UserDetailResponseTest {
         UserDetailResponse response = new UserDetailResponse(user);
         
         // Then
-        assertThat(response.getAddress()).isEqualTo("전라북도");
+        assertThat(response.getAddress()).isEqualTo("전북특별자치도");
     }
     
     @Test
@@ -219,7 +219,7 @@ class UserDetailResponseTest {
     }
     
     @Test
-    @DisplayName("주소 추출 - 단일 단어 주소")
+    @DisplayName("주소 추출 - 단일 단어 주소 (약칭은 정식 명칭으로 변환)")
     void addressExtraction_SingleWord_ShouldReturnSingleWord() {
         // Given
         User user = createTestUser("서울");
@@ -228,7 +228,7 @@ class UserDetailResponseTest {
         UserDetailResponse response = new UserDetailResponse(user);
         
         // Then
-        assertThat(response.getAddress()).isEqualTo("서울");
+        assertThat(response.getAddress()).isEqualTo("서울특별시");
     }
     
     @Test
@@ -1,15 +1,21 @@
 package com.example.joinadmin.repository;
 
 import com.example.joinadmin.entity.User;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -169,7 +175,7 @@ class UserRepositoryTest {
         
         assertThatThrownBy(() -> {
             entityManager.persistAndFlush(duplicateAccountUser);
-        }).hasMessageContaining("could not execute statement");
+        }).isInstanceOf(ConstraintViolationException.class); // JDBC 배치 사용 시 "could not execute batch"
         
         // When & Then - 동일한 주민등록번호로 두 번째 사용자 저장 시도
         User duplicateResidentUser = new User();
@@ -182,7 +188,7 @@ class UserRepositoryTest {
         
         assertThatThrownBy(() -> {
             entityManager.persistAndFlush(duplicateResidentUser);
-        }).hasMessageContaining("could not execute statement");
+        }).isInstanceOf(ConstraintViolationException.class);
     }
     
     @Test
@@ -238,4 +244,114 @@ class UserRepositoryTest {
         // Then
         assertThat(count).isEqualTo(2);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("저장 시 주민등록번호로부터 생년월일 파생")
+    void save_ShouldDeriveBirthDate() {
+        // Given
+        testUser.setResidentNumber("9001011234567");
+        
+        // When
+        User savedUser = entityManager.persistAndFlush(testUser);
+        
+        // Then
+        assertThat(savedUser.getBirthDate()).isEqualTo(LocalDate.of(1990, 1, 1));
+    }
+    
+    @Test
+    @DisplayName("생성자로 만든 사용자 저장 시 주소로부터 행정구역 파생")
+    void save_WithConstructor_ShouldDeriveRegion() {
+        // Given
+        User user = new User("testuser2", "encodedPassword", "김철수", "9102021234567", "01087654321", "부산광역시 해운대구 우동 456");
+        
+        // When
+        User savedUser = entityManager.persistAndFlush(user);
+        entityManager.clear();
+        
+        // Then
+        assertThat(savedUser.getRegion()).isEqualTo("부산광역시");
+        assertThat(userRepository.findById(savedUser.getId()).orElseThrow().getRegion()).isEqualTo("부산광역시");
+    }
+    
+    @Test
+    @DisplayName("생년월일 범위로 사용자 조회 - (생년월일, ID) 키셋 페이징")
+    void findByBirthDateBetweenAfter_ShouldPageUsersInRange() {
+        // Given - 범위 안 3명 (같은 생년월일 2명 포함), 범위 밖 1명
+        User first = persistUser("keyset1", "9001011234567");  // 1990-01-01
+        User second = persistUser("keyset2", "9001012234567"); // 1990-01-01
+        User third = persistUser("keyset3", "9203041234567");  // 1992-03-04
+        persistUser("keyset4", "0006153234567");               // 2000-06-15
+        entityManager.clear();
+        
+        LocalDate from = LocalDate.of(1985, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        
+        // When - 페이지 크기 2
+        List<User> firstPage = userRepository.findByBirthDateBetweenAfter(from, to, from, 0L, PageRequest.of(0, 2));
+        User last = firstPage.get(firstPage.size() - 1);
+        List<User> secondPage = userRepository.findByBirthDateBetweenAfter(
+                from, to, last.getBirthDate(), last.getId(), PageRequest.of(0, 2));
+        
+        // Then
+        assertThat(firstPage).extracting(User::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(User::getId).containsExactly(third.getId());
+    }
+    
+    @Test
+    @DisplayName("생년월일이 없는 사용자의 ID/주민등록번호 조회 - ID 키셋 페이징")
+    void findIdAndResidentNumberByBirthDateIsNullAfter_ShouldPageById() {
+        // Given - 생년월일로 변환할 수 없는 주민등록번호 2명, 생년월일이 있는 사용자 1명
+        User first = persistUser("nobirth1", "9013011234567");
+        User second = persistUser("nobirth2", "9002301234567");
+        persistUser("withbirth", "9001011234567");
+        entityManager.clear();
+        
+        // When
+        List<Object[]> firstPage = userRepository.findIdAndResidentNumberByBirthDateIsNullAfter(0L, PageRequest.of(0, 1));
+        List<Object[]> secondPage = userRepository.findIdAndResidentNumberByBirthDateIsNullAfter(
+                (Long) firstPage.get(0)[0], PageRequest.of(0, 1));
+        
+        // Then
+        assertThat(firstPage).hasSize(1);
+        assertThat(firstPage.get(0)).containsExactly(first.getId(), "9013011234567");
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0)).containsExactly(second.getId(), "9002301234567");
+    }
+    
+    @Test
+    @DisplayName("사용자 ID 시퀀스 할당 - 할당 단위를 넘어 일괄 저장")
+    void saveAll_BeyondAllocationSize_ShouldAssignUniqueIds() {
+        // Given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < User.ID_ALLOCATION_SIZE + 10; i++) {
+            User user = new User();
+            user.setAccount(String.format("bulkuser%03d", i));
+            user.setPassword("encodedPassword");
+            user.setName("일괄사용자");
+            user.setResidentNumber(String.format("9001011%06d", i));
+            user.setPhoneNumber("01012345678");
+            user.setAddress("서울특별시");
+            users.add(user);
+        }
+        
+        // When
+        List<User> savedUsers = userRepository.saveAll(users);
+        entityManager.flush();
+        
+        // Then
+        List<Long> ids = savedUsers.stream().map(User::getId).collect(Collectors.toList());
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+        assertThat(userRepository.count()).isEqualTo(User.ID_ALLOCATION_SIZE + 10);
+    }
+    
+    private User persistUser(String account, String residentNumber) {
+        User user = new User();
+        user.setAccount(account);
+        user.setPassword("encodedPassword");
+        user.setName("홍길동");
+        user.setResidentNumber(residentNumber);
+        user.setPhoneNumber("01012345678");
+        user.setAddress("서울특별시 강남구 테헤란로 123");
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.config.KakaoProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KakaoTokenPoolTest {
+    
+    @Test
+    @DisplayName("토큰 획득 - 라운드로빈으로 토큰을 번갈아 사용")
+    void acquire_ShouldRotateTokens() {
+        // Given
+        KakaoProperties properties = new KakaoProperties();
+        properties.setRatePerMinute(60000);
+        properties.setTokens(List.of(
+                new KakaoProperties.Token("token1", "1234"),
+                new KakaoProperties.Token("token2", "5678")));
+        KakaoTokenPool pool = new KakaoTokenPool(properties);
+        
+        // When
+        String first = pool.acquire().getUsername();
+        String second = pool.acquire().getUsername();
+        
+        // Then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("token1", "token2");
+        assertThat(pool.getTotalRate()).isEqualTo(2000.0);
+    }
+    
+    @Test
+    @DisplayName("토큰 풀 생성 실패 - 토큰 없음")
+    void create_WithoutTokens_ShouldThrowException() {
+        // Given
+        KakaoProperties properties = new KakaoProperties();
+        properties.setTokens(List.of());
+        
+        // When & Then
+        assertThatThrownBy(() -> new KakaoTokenPool(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("카카오톡 발송 토큰이 하나 이상 필요합니다.");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.BackfillCursorRepository;
+import com.example.joinadmin.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeysetBackfillTest {
+    
+    @Autowired
+    private KeysetBackfill keysetBackfill;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private BackfillCursorRepository backfillCursorRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @AfterEach
+    void tearDown() {
+        // 백필은 배치마다 커밋되므로 직접 정리
+        userRepository.deleteAll();
+        backfillCursorRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("키셋 백필 - 계산한 값만 채우고 수정 시각은 유지하며, 채울 수 없는 행은 다음 실행 때 다시 조회하지 않음")
+    void run_ShouldFillDerivableRowsAndSkipUnderivableRowsOnNextRun() {
+        // Given - 행정구역 컬럼 추가 이전에 가입한 사용자 (두 번째 사용자는 주소 첫 단어가 컬럼 길이를 넘음)
+        User fillable = userRepository.save(new User("backfill1", "encodedPassword", "홍길동", "9001011234567", "01012345678", "서울특별시 강남구"));
+        User unfillable = userRepository.save(new User("backfill2", "encodedPassword", "김철수", "9102021234567", "01087654321",
+                "가".repeat(User.REGION_MAX_LENGTH + 1) + " 어딘가"));
+        jdbcTemplate.update("UPDATE users SET region = NULL WHERE id IN (?, ?)", fillable.getId(), unfillable.getId());
+        User before = userRepository.findById(fillable.getId()).orElseThrow();
+        
+        List<Long> readAfterIds = new ArrayList<>();
+        KeysetBackfill.Target target = new KeysetBackfill.Target("test.region",
+                (lastId, page) -> {
+                    readAfterIds.add(lastId);
+                    return userRepository.findIdAndAddressByRegionIsNullAfter(lastId, page);
+                },
+                User::deriveRegion,
+                "UPDATE users SET region = ? WHERE id = ? AND region IS NULL");
+        
+        // When
+        int updated = keysetBackfill.run(target);
+        
+        // Then - 계산할 수 있는 행만 UPDATE 로 채워지고 updated_at 은 그대로
+        assertThat(updated).isEqualTo(1);
+        User after = userRepository.findById(fillable.getId()).orElseThrow();
+        assertThat(after.getRegion()).isEqualTo("서울특별시");
+        assertThat(after.getUpdatedAt()).isEqualTo(before.getUpdatedAt());
+        assertThat(userRepository.findById(unfillable.getId()).orElseThrow().getRegion()).isNull();
+        
+        // When - 다시 실행 (재기동)
+        readAfterIds.clear();
+        int updatedAgain = keysetBackfill.run(target);
+        
+        // Then - 저장된 진행 위치 이후부터 조회하므로 채울 수 없는 행을 다시 읽지 않음
+        assertThat(updatedAgain).isZero();
+        assertThat(readAfterIds).containsExactly(unfillable.getId());
+    }
+}
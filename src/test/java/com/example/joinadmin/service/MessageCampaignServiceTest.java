@@ -0,0 +1,125 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.dto.MessageRequest;
+import com.example.joinadmin.entity.MessageCampaign;
+import com.example.joinadmin.repository.MessageCampaignRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageCampaignServiceTest {
+    
+    @Autowired
+    private MessageCampaignService messageCampaignService;
+    
+    @Autowired
+    private MessageCampaignRepository messageCampaignRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @AfterEach
+    void tearDown() {
+        // 종료 처리는 별도 트랜잭션으로 커밋되므로 직접 정리
+        messageCampaignRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("발송 작업 종료 - 컬럼 길이를 넘는 실패 사유는 잘라서 저장")
+    void finish_LongErrorMessage_ShouldTruncate() {
+        // Given
+        MessageCampaign campaign = messageCampaignService.create(new MessageRequest(20, 29, "안내"));
+        String errorMessage = "x".repeat(MessageCampaign.ERROR_MESSAGE_MAX_LENGTH + 100);
+        
+        // When
+        messageCampaignService.finish(campaign.getId(), new CampaignProgress(), MessageCampaign.Status.FAILED, errorMessage);
+        
+        // Then
+        MessageCampaign finished = messageCampaignService.findById(campaign.getId());
+        assertThat(finished.getStatus()).isEqualTo(MessageCampaign.Status.FAILED);
+        assertThat(finished.getErrorMessage()).hasSize(MessageCampaign.ERROR_MESSAGE_MAX_LENGTH);
+    }
+    
+    @Test
+    @DisplayName("발송 작업 실패 처리 - 진행 현황 없이 상태와 종료 시각만 저장")
+    void markFailed_ShouldUpdateStatusOnly() {
+        // Given
+        MessageCampaign campaign = messageCampaignService.create(new MessageRequest(20, 29, "안내"));
+        messageCampaignService.markRunning(campaign.getId(), 10);
+        
+        // When
+        messageCampaignService.markFailed(campaign.getId(), "java.lang.IllegalStateException");
+        
+        // Then
+        MessageCampaign failed = messageCampaignService.findById(campaign.getId());
+        assertThat(failed.getStatus()).isEqualTo(MessageCampaign.Status.FAILED);
+        assertThat(failed.getErrorMessage()).isEqualTo("java.lang.IllegalStateException");
+        assertThat(failed.getFinishedAt()).isNotNull();
+        assertThat(failed.getExpectedTargetCount()).isEqualTo(10);
+        assertThat(messageCampaignService.findLeaseExpired()).extracting(MessageCampaign::getId).doesNotContain(campaign.getId());
+    }
+    
+    @Test
+    @DisplayName("발송 작업 점유 - 실행 중인 인스턴스가 점유를 갱신 중이면 다른 인스턴스는 점유하지 못함")
+    void claim_WhileOwnerHeartbeating_ShouldFail() {
+        // Given - 이 인스턴스가 등록해 실행 중인 작업
+        MessageCampaign campaign = messageCampaignService.create(new MessageRequest(20, 29, "안내"));
+        messageCampaignService.markRunning(campaign.getId(), 10);
+        MessageCampaignService otherInstance = new MessageCampaignService(messageCampaignRepository, "other-instance", 60);
+        
+        // When
+        Boolean claimed = transactionTemplate.execute(status -> otherInstance.claim(campaign.getId()));
+        
+        // Then
+        assertThat(claimed).isFalse();
+        List<MessageCampaign> leaseExpired = transactionTemplate.execute(status -> otherInstance.findLeaseExpired());
+        assertThat(leaseExpired).extracting(MessageCampaign::getId).doesNotContain(campaign.getId());
+        assertThat(messageCampaignService.heartbeat(campaign.getId())).isTrue();
+    }
+    
+    @Test
+    @DisplayName("발송 작업 점유 - 점유 갱신이 끊긴 작업은 다른 인스턴스가 점유하고, 이전 인스턴스는 상태를 덮어쓰지 못함")
+    void claim_AfterLeaseExpired_ShouldTransferOwnership() {
+        // Given - 점유 갱신이 점유 시간보다 오래 끊긴 작업
+        MessageCampaign campaign = messageCampaignService.create(new MessageRequest(20, 29, "안내"));
+        messageCampaignService.markRunning(campaign.getId(), 10);
+        MessageCampaign stale = messageCampaignRepository.findById(campaign.getId()).orElseThrow();
+        stale.setHeartbeatAt(LocalDateTime.now().minusMinutes(5));
+        messageCampaignRepository.save(stale);
+        MessageCampaignService otherInstance = new MessageCampaignService(messageCampaignRepository, "other-instance", 60);
+        
+        // When - 두 인스턴스가 차례로 점유 시도
+        Boolean claimed = transactionTemplate.execute(status -> otherInstance.claim(campaign.getId()));
+        Boolean claimedAgain = transactionTemplate.execute(status -> otherInstance.claim(campaign.getId()));
+        
+        // Then - 한 번만 점유되고, 점유를 잃은 이전 인스턴스의 갱신/종료 처리는 반영되지 않음
+        assertThat(claimed).isTrue();
+        assertThat(claimedAgain).isFalse();
+        assertThat(messageCampaignService.heartbeat(campaign.getId())).isFalse();
+        
+        messageCampaignService.finish(campaign.getId(), new CampaignProgress(), MessageCampaign.Status.FAILED, "중단");
+        messageCampaignService.markFailed(campaign.getId(), "중단");
+        
+        MessageCampaign current = messageCampaignService.findById(campaign.getId());
+        assertThat(current.getOwner()).isEqualTo("other-instance");
+        assertThat(current.getStatus()).isEqualTo(MessageCampaign.Status.RUNNING);
+    }
+    
+    @Test
+    @DisplayName("실패 사유 - 메시지가 없는 예외는 예외 클래스 이름")
+    void errorMessage_WithoutMessage_ShouldUseClassName() {
+        assertThat(MessageService.errorMessage(new NullPointerException())).isEqualTo("java.lang.NullPointerException");
+        assertThat(MessageService.errorMessage(new IllegalStateException("연결 끊김"))).isEqualTo("연결 끊김");
+    }
+}
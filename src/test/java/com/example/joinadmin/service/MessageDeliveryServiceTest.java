@@ -0,0 +1,109 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.MessageDelivery;
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.MessageDeliveryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageDeliveryServiceTest {
+    
+    private static final long CAMPAIGN_ID = 1000L;
+    
+    @Autowired
+    private MessageDeliveryService messageDeliveryService;
+    
+    @Autowired
+    private MessageDeliveryRepository messageDeliveryRepository;
+    
+    @AfterEach
+    void tearDown() {
+        // 발송 이력은 별도 트랜잭션으로 커밋되므로 직접 정리
+        messageDeliveryRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("발송 결과 기록 - 처음 발송한 사용자는 시도 횟수 1로 기록")
+    void record_FirstAttempt_ShouldInsertDeliveries() {
+        messageDeliveryService.record(CAMPAIGN_ID,
+                Map.of(1L, DeliveryOutcome.KAKAO_SENT, 2L, DeliveryOutcome.SMS_SENT, 3L, DeliveryOutcome.FAILED),
+                Map.of());
+        
+        Map<Long, MessageDelivery.Status> statuses = messageDeliveryService.findStatuses(CAMPAIGN_ID, users(1L, 2L, 3L, 4L));
+        
+        assertThat(statuses).containsOnly(
+                Map.entry(1L, MessageDelivery.Status.DELIVERED),
+                Map.entry(2L, MessageDelivery.Status.DELIVERED),
+                Map.entry(3L, MessageDelivery.Status.FAILED));
+        assertThat(messageDeliveryRepository.findAll())
+                .allSatisfy(delivery -> assertThat(delivery.getAttempts()).isEqualTo(1));
+    }
+    
+    @Test
+    @DisplayName("발송 결과 기록 - 실패했던 사용자를 재발송하면 기존 이력을 갱신")
+    void record_Retry_ShouldUpdateExistingDelivery() {
+        messageDeliveryService.record(CAMPAIGN_ID, Map.of(1L, DeliveryOutcome.FAILED), Map.of());
+        
+        Map<Long, MessageDelivery.Status> previous = messageDeliveryService.findStatuses(CAMPAIGN_ID, users(1L));
+        messageDeliveryService.record(CAMPAIGN_ID, Map.of(1L, DeliveryOutcome.SMS_SENT), previous);
+        
+        List<MessageDelivery> deliveries = messageDeliveryRepository.findByCampaignIdAndUserIdIn(CAMPAIGN_ID, List.of(1L));
+        assertThat(deliveries).hasSize(1);
+        assertThat(deliveries.get(0).getStatus()).isEqualTo(MessageDelivery.Status.DELIVERED);
+        assertThat(deliveries.get(0).getChannel()).isEqualTo(MessageDelivery.Channel.SMS);
+        assertThat(deliveries.get(0).getAttempts()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("재실행 진행 현황 - 이전 실행의 채널별 발송 완료 건수 반영")
+    void restoreDelivered_ShouldSeedProgressFromLedger() {
+        messageDeliveryService.record(CAMPAIGN_ID,
+                Map.of(1L, DeliveryOutcome.KAKAO_SENT, 2L, DeliveryOutcome.KAKAO_SENT,
+                       3L, DeliveryOutcome.SMS_SENT, 4L, DeliveryOutcome.FAILED),
+                Map.of());
+        
+        CampaignProgress progress = new CampaignProgress();
+        messageDeliveryService.restoreDelivered(CAMPAIGN_ID, progress);
+        
+        assertThat(progress.getKakaoSentCount()).isEqualTo(2);
+        assertThat(progress.getSmsSentCount()).isEqualTo(1);
+        assertThat(progress.getFailedCount()).isZero(); // 실패한 사용자는 재시도 결과로 다시 집계
+    }
+    
+    @Test
+    @DisplayName("발송 결과 기록기 - 배치가 차면 청크 발송이 끝나기 전에 바로 기록")
+    void deliveryRecorder_FullBatch_ShouldWriteBeforeChunkEnds() {
+        DeliveryRecorder recorder = new DeliveryRecorder(messageDeliveryService, CAMPAIGN_ID, Map.of());
+        
+        // 배치 크기만큼 발송 결과가 나오면 청크 종료(flush) 전에 기록됨
+        for (long userId = 1; userId <= DeliveryRecorder.FLUSH_SIZE; userId++) {
+            recorder.record(userId, DeliveryOutcome.KAKAO_SENT);
+        }
+        assertThat(messageDeliveryRepository.count()).isEqualTo(DeliveryRecorder.FLUSH_SIZE);
+        
+        // 남은 결과는 청크 종료 시 기록
+        recorder.record(DeliveryRecorder.FLUSH_SIZE + 1L, DeliveryOutcome.FAILED);
+        recorder.flush();
+        assertThat(messageDeliveryRepository.count()).isEqualTo(DeliveryRecorder.FLUSH_SIZE + 1L);
+    }
+    
+    private List<User> users(Long... ids) {
+        return Arrays.stream(ids).map(id -> {
+            User user = new User();
+            user.setId(id);
+            return user;
+        }).toList();
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.config.KakaoProperties;
+import com.example.joinadmin.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class MessageDispatcherTest {
+    
+    private final MessageDispatcher messageDispatcher = new MessageDispatcher(Runnable::run, new RestTemplate(), null, new KakaoProperties(), 500, "blocking", 1000);
+    
+    @Test
+    @DisplayName("예상 소요 시간 - 대체 발송이 없으면 카카오톡 한도가 결정")
+    void estimateRemainingSeconds_WithoutFallback_ShouldUseKakaoBudget() {
+        // 100회/분 한도로 200명 발송 -> 2분
+        assertThat(messageDispatcher.estimateRemainingSeconds(200, 0.0)).isEqualTo(120);
+    }
+    
+    @Test
+    @DisplayName("예상 소요 시간 - 카카오톡과 SMS 중 더 오래 걸리는 한도가 결정")
+    void estimateRemainingSeconds_WithFallback_ShouldUseSlowerBudget() {
+        // 전원 SMS 대체 발송이어도 카카오톡 호출은 먼저 시도하므로 카카오톡 한도가 더 느림
+        assertThat(messageDispatcher.estimateRemainingSeconds(500, 1.0)).isEqualTo(300);
+    }
+    
+    @Test
+    @DisplayName("예상 소요 시간 - 카카오톡 토큰 수에 비례해 단축")
+    void estimateRemainingSeconds_WithMultipleTokens_ShouldScaleWithTokenCount() {
+        // Given - 토큰 4개 (토큰당 100회/분)
+        KakaoProperties properties = new KakaoProperties();
+        properties.setTokens(List.of(
+                new KakaoProperties.Token("token1", "1234"),
+                new KakaoProperties.Token("token2", "1234"),
+                new KakaoProperties.Token("token3", "1234"),
+                new KakaoProperties.Token("token4", "1234")));
+        MessageDispatcher pooledDispatcher = new MessageDispatcher(Runnable::run, new RestTemplate(), null, properties, 500, "blocking", 1000);
+        
+        // 400회/분 한도로 800명 발송 -> 2분
+        assertThat(pooledDispatcher.estimateRemainingSeconds(800, 0.0)).isEqualTo(120);
+    }
+    
+    @Test
+    @DisplayName("예상 소요 시간 - 남은 대상자가 없으면 0초")
+    void estimateRemainingSeconds_NoRemaining_ShouldReturnZero() {
+        assertThat(messageDispatcher.estimateRemainingSeconds(0, 0.5)).isZero();
+    }
+    
+    @Test
+    @DisplayName("발송 - 카카오톡이 200 을 응답하면 SMS 를 보내지 않음")
+    void dispatch_KakaoOk_ShouldNotSendSms() {
+        // Given - SMS 요청이 오면 예상하지 않은 요청으로 실패
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(MessageDispatcher.KAKAO_API_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Authorization", basicAuth("autoever", "1234")))
+                .andExpect(jsonPath("$.phone").value("010-1234-5678"))
+                .andExpect(jsonPath("$.message").value("홍길동님, 안녕하세요. 현대 오토에버입니다. 공지"))
+                .andRespond(withSuccess());
+        MessageDispatcher dispatcher = new MessageDispatcher(Runnable::run, restTemplate, null, new KakaoProperties(), 500, "blocking", 1000);
+        
+        // When
+        Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(
+                List.of(user(1L, "홍길동", "01012345678")), "공지", new CampaignProgress(), (userId, outcome) -> {});
+        
+        // Then
+        server.verify();
+        assertThat(outcomes).containsExactly(entry(1L, DeliveryOutcome.KAKAO_SENT));
+    }
+    
+    @Test
+    @DisplayName("발송 - 카카오톡이 200 이외로 응답하거나 호출이 실패하면 form 본문으로 SMS 대체 발송")
+    void dispatch_KakaoNotOkOrError_ShouldFallBackToFormEncodedSms() {
+        // Given - 첫 번째 사용자는 202 응답, 두 번째 사용자는 연결 오류
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(MessageDispatcher.KAKAO_API_URL))
+                .andRespond(withStatus(HttpStatus.ACCEPTED));
+        expectSms(server, "010-1234-5678", "홍길동님, 안녕하세요. 현대 오토에버입니다. 공지");
+        server.expect(requestTo(MessageDispatcher.KAKAO_API_URL))
+                .andRespond(withException(new IOException("connection refused")));
+        expectSms(server, "010-8765-4321", "김철수님, 안녕하세요. 현대 오토에버입니다. 공지");
+        MessageDispatcher dispatcher = new MessageDispatcher(Runnable::run, restTemplate, null, new KakaoProperties(), 500, "blocking", 1000);
+        CampaignProgress progress = new CampaignProgress();
+        
+        // When
+        Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(
+                List.of(user(1L, "홍길동", "01012345678"), user(2L, "김철수", "01087654321")),
+                "공지", progress, (userId, outcome) -> {});
+        
+        // Then
+        server.verify();
+        assertThat(outcomes).containsOnly(entry(1L, DeliveryOutcome.SMS_SENT), entry(2L, DeliveryOutcome.SMS_SENT));
+        assertThat(progress.getSmsSentCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("발송 - 카카오톡 분당 한도를 다 쓰면 버리지 않고 한도가 생길 때까지 대기 후 발송")
+    void dispatch_KakaoPermitsUsedUp_ShouldWaitInsteadOfDropping() {
+        // Given - 토큰 1개, 분당 60회 (초당 1회) 한도에 4명을 동시에 발송
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.times(4), requestTo(MessageDispatcher.KAKAO_API_URL)).andRespond(withSuccess());
+        KakaoProperties properties = new KakaoProperties();
+        properties.setRatePerMinute(60);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MessageDispatcher dispatcher = new MessageDispatcher(executor, restTemplate, null, properties, 500, "blocking", 1000);
+        
+        try {
+            // When
+            long startedAt = System.nanoTime();
+            Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(4), "공지", new CampaignProgress(), (userId, outcome) -> {});
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            
+            // Then - 한도 대기로 2초 가까이 걸리지만 4명 모두 카카오톡으로 발송
+            server.verify();
+            assertThat(outcomes).hasSize(4).containsOnlyKeys(1L, 2L, 3L, 4L);
+            assertThat(outcomes.values()).containsOnly(DeliveryOutcome.KAKAO_SENT);
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(1500);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("발송 - SMS 분당 한도를 다 써도 대체 발송 대상자를 누락하지 않음")
+    void dispatch_SmsPermitsUsedUp_ShouldNotDropAnyRecipient() {
+        // Given - 카카오톡은 모두 실패, SMS 는 분당 60회 (초당 1회) 한도
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.times(4), requestTo(MessageDispatcher.KAKAO_API_URL)).andRespond(withServerError());
+        server.expect(ExpectedCount.times(4), requestTo(startsWith(MessageDispatcher.SMS_API_URL)))
+                .andRespond(withSuccess("{\"result\":\"OK\"}", MediaType.APPLICATION_JSON));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MessageDispatcher dispatcher = new MessageDispatcher(executor, restTemplate, null, fastKakao(), 60, "blocking", 1000);
+        
+        try {
+            // When
+            long startedAt = System.nanoTime();
+            Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(4), "공지", new CampaignProgress(), (userId, outcome) -> {});
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            
+            // Then
+            server.verify();
+            assertThat(outcomes).hasSize(4).containsOnlyKeys(1L, 2L, 3L, 4L);
+            assertThat(outcomes.values()).containsOnly(DeliveryOutcome.SMS_SENT);
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(1500);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("발송 - 여러 워커에 나눠 발송해도 대상자마다 결과가 정확히 한 번, 발송사 예외는 청크 실패가 아닌 FAILED 결과")
+    void dispatch_ParallelWorkers_ShouldGiveEveryRecipientExactlyOneOutcome() {
+        // Given - 전화번호 끝자리 기준: 3의 배수는 카카오톡 성공, 나머지 1은 카카오톡 예외 후 SMS 성공, 나머지 2는 둘 다 예외
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.manyTimes(), requestTo(MessageDispatcher.KAKAO_API_URL))
+                .andRespond(request -> {
+                    if (userNumberOf(request) % 3 != 0) {
+                        throw new IllegalStateException("카카오톡 발송사 오류");
+                    }
+                    return withSuccess().createResponse(request);
+                });
+        server.expect(ExpectedCount.manyTimes(), requestTo(startsWith(MessageDispatcher.SMS_API_URL)))
+                .andRespond(request -> {
+                    if (userNumberOf(request) % 3 == 2) {
+                        throw new IllegalStateException("SMS 발송사 오류");
+                    }
+                    return withSuccess("{\"result\":\"OK\"}", MediaType.APPLICATION_JSON).createResponse(request);
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        MessageDispatcher dispatcher = new MessageDispatcher(executor, restTemplate, null, fastKakao(), 600000, "blocking", 1000);
+        CampaignProgress progress = new CampaignProgress();
+        Map<Long, Integer> callbackCounts = new ConcurrentHashMap<>();
+        
+        try {
+            // When
+            Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(90), "공지", progress,
+                    (userId, outcome) -> callbackCounts.merge(userId, 1, Integer::sum));
+            
+            // Then - 90명 모두 결과가 하나씩 있고, 결과 콜백도 대상자마다 한 번씩만 호출됨
+            assertThat(outcomes).hasSize(90);
+            assertThat(callbackCounts).hasSize(90);
+            assertThat(callbackCounts.values()).containsOnly(1);
+            outcomes.forEach((userId, outcome) -> assertThat(outcome).isEqualTo(switch ((int) (userId % 3)) {
+                case 0 -> DeliveryOutcome.KAKAO_SENT;
+                case 1 -> DeliveryOutcome.SMS_SENT;
+                default -> DeliveryOutcome.FAILED;
+            }));
+            assertThat(progress.getKakaoSentCount()).isEqualTo(30);
+            assertThat(progress.getSmsSentCount()).isEqualTo(30);
+            assertThat(progress.getFailedCount()).isEqualTo(30);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("reactive 발송 - 카카오톡 성공은 SMS 미발송, 카카오톡 실패는 SMS 대체 발송")
+    void dispatchReactive_ShouldFallBackToSmsOnlyWhenKakaoFails() {
+        // Given - 짝수 번호 사용자는 카카오톡 500 응답
+        List<String> smsUrls = new CopyOnWriteArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String url = request.url().toString();
+                    if (url.startsWith(MessageDispatcher.SMS_API_URL)) {
+                        smsUrls.add(url);
+                        return Mono.just(ReactiveMessageClientTest.smsResponse("OK"));
+                    }
+                    return ReactiveMessageClientTest.bodyOf(request).map(body -> userNumberOf(body) % 2 == 0
+                            ? ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()
+                            : ClientResponse.create(HttpStatus.OK).build());
+                })
+                .build();
+        MessageDispatcher dispatcher = new MessageDispatcher(Runnable::run, new RestTemplate(),
+                new ReactiveMessageClient(webClient), fastKakao(), 600000, "reactive", 1000);
+        Map<Long, Integer> callbackCounts = new ConcurrentHashMap<>();
+        
+        try {
+            // When
+            Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(4), "공지", new CampaignProgress(),
+                    (userId, outcome) -> callbackCounts.merge(userId, 1, Integer::sum));
+            
+            // Then
+            assertThat(outcomes).containsOnly(
+                    entry(1L, DeliveryOutcome.KAKAO_SENT), entry(2L, DeliveryOutcome.SMS_SENT),
+                    entry(3L, DeliveryOutcome.KAKAO_SENT), entry(4L, DeliveryOutcome.SMS_SENT));
+            assertThat(smsUrls).containsExactlyInAnyOrder(
+                    MessageDispatcher.SMS_API_URL + "?phone=010-0000-0002",
+                    MessageDispatcher.SMS_API_URL + "?phone=010-0000-0004");
+            assertThat(callbackCounts.values()).hasSize(4).containsOnly(1);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("reactive 발송 - 동시에 처리 중인 요청 수가 reactive-max-in-flight 를 넘지 않음")
+    void dispatchReactive_ShouldCapInFlightRequests() {
+        // Given - 응답이 50ms 걸리는 카카오톡 API, 동시 요청 한도 4
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(50))
+                        .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .doOnNext(tick -> inFlight.decrementAndGet())
+                        .map(tick -> ClientResponse.create(HttpStatus.OK).build()))
+                .build();
+        MessageDispatcher dispatcher = new MessageDispatcher(Runnable::run, new RestTemplate(),
+                new ReactiveMessageClient(webClient), fastKakao(), 600000, "reactive", 4);
+        
+        try {
+            // When
+            Map<Long, DeliveryOutcome> outcomes = dispatcher.dispatch(users(40), "공지", new CampaignProgress(), (userId, outcome) -> {});
+            
+            // Then - 40명 모두 발송되고, 동시 요청은 한도까지만 늘어남
+            assertThat(outcomes).hasSize(40);
+            assertThat(outcomes.values()).containsOnly(DeliveryOutcome.KAKAO_SENT);
+            assertThat(maxInFlight.get()).isBetween(2, 4);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("reactive 동시 요청 한도 - 청크 크기보다 큰 설정은 청크 크기로 제한")
+    void resolveReactiveMaxInFlight_AboveChunkSize_ShouldCapAtChunkSize() {
+        assertThat(MessageDispatcher.resolveReactiveMaxInFlight(5000)).isEqualTo(MessageTargetingService.CHUNK_SIZE);
+        assertThat(MessageDispatcher.resolveReactiveMaxInFlight(200)).isEqualTo(200);
+    }
+    
+    // 요청의 전화번호(010-0000-00NN)에서 사용자 번호 추출 (카카오톡은 JSON 본문, SMS 는 쿼리 파라미터)
+    private static long userNumberOf(ClientHttpRequest request) {
+        return userNumberOf(request.getURI().getQuery() != null
+                ? request.getURI().getQuery()
+                : ((MockClientHttpRequest) request).getBodyAsString());
+    }
+    
+    private static long userNumberOf(String source) {
+        return Long.parseLong(source.replaceAll(".*010-(\\d{4})-(\\d{4}).*", "$1$2"));
+    }
+    
+    private static void expectSms(MockRestServiceServer server, String phone, String message) {
+        server.expect(requestTo(MessageDispatcher.SMS_API_URL + "?phone=" + phone))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Authorization", basicAuth("autoever", "5678")))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(content().formDataContains(Map.of("message", message)))
+                .andRespond(withSuccess("{\"result\":\"OK\"}", MediaType.APPLICATION_JSON));
+    }
+    
+    private static String basicAuth(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
+    }
+    
+    // 카카오톡 호출 한도가 테스트 시간에 영향을 주지 않도록 충분히 큰 한도
+    private static KakaoProperties fastKakao() {
+        KakaoProperties properties = new KakaoProperties();
+        properties.setRatePerMinute(600000);
+        return properties;
+    }
+    
+    private static List<User> users(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> user((long) i, "사용자" + i, String.format("010%08d", i)))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    private static User user(Long id, String name, String phoneNumber) {
+        User user = new User("user" + id, "encodedPassword", name, "9001011234567", phoneNumber, "서울특별시 강남구");
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.BackfillCursorRepository;
+import com.example.joinadmin.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageTargetingServiceTest {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ParallelAgeFilter parallelAgeFilter;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private BackfillCursorRepository backfillCursorRepository;
+    
+    @AfterEach
+    void tearDown() {
+        // 백필은 배치마다 커밋되므로 직접 정리
+        userRepository.deleteAll();
+        backfillCursorRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("발송 대상 조회 - 기동 시 생년월일 백필이 끝날 때까지 기다려 백필 중인 사용자도 한 번만 포함")
+    void forEachTargetChunk_DuringStartupBackfill_ShouldWaitAndIncludeBackfilledUserOnce() throws Exception {
+        // Given - 생년월일이 아직 채워지지 않은 사용자와, 실행되지 않고 대기 중인 기동 시 백필
+        User user = userRepository.save(new User("target1", "encodedPassword", "홍길동", "9001011234567", "01012345678", "서울특별시 강남구"));
+        jdbcTemplate.update("UPDATE users SET birth_date = NULL WHERE id = ?", user.getId());
+        
+        List<Runnable> pendingBackfills = new ArrayList<>();
+        KeysetBackfill keysetBackfill = new KeysetBackfill(
+                jdbcTemplate, transactionManager, backfillCursorRepository, pendingBackfills::add);
+        BirthDateBackfillService backfillService = new BirthDateBackfillService(keysetBackfill, userRepository, true);
+        backfillService.backfillOnStartup();
+        MessageTargetingService targetingService = new MessageTargetingService(
+                userRepository, parallelAgeFilter, transactionManager, backfillService);
+        
+        // When - 백필 도중 발송 대상 조회 시작
+        List<Long> targetedIds = new CopyOnWriteArrayList<>();
+        CompletableFuture<Integer> targeting = CompletableFuture.supplyAsync(() -> targetingService.forEachTargetChunk(
+                1, 120, chunk -> chunk.forEach(target -> targetedIds.add(target.getId()))));
+        
+        // Then - 백필이 끝나기 전에는 조회하지 않음
+        Thread.sleep(200);
+        assertThat(targeting).isNotDone();
+        assertThat(targetedIds).isEmpty();
+        
+        // 백필이 끝나면 백필된 사용자가 생년월일 범위 조회로 한 번만 포함됨
+        pendingBackfills.forEach(Runnable::run);
+        targeting.get(5, TimeUnit.SECONDS);
+        assertThat(targetedIds).containsOnlyOnce(user.getId());
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getBirthDate()).isNotNull();
+    }
+}
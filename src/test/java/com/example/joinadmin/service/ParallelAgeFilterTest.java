@@ -0,0 +1,74 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.util.AgeUtil;
+import com.example.joinadmin.util.LongIdBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelAgeFilterTest {
+    
+    private final ParallelAgeFilter parallelAgeFilter = new ParallelAgeFilter(4);
+    
+    @AfterEach
+    void tearDown() {
+        parallelAgeFilter.shutdown();
+    }
+    
+    @Test
+    @DisplayName("병렬 연령 필터 - 여러 구간으로 나눠도 순차 계산과 같은 ID 를 입력 순서대로 반환")
+    void filter_SplitIntoTasks_ShouldMatchSequentialResult() {
+        // Given - 분할 기준보다 많은 사용자 (1950 ~ 2019년생, 일부 주민등록번호 오류 포함)
+        int count = ParallelAgeFilter.SPLIT_THRESHOLD * 5 + 123;
+        long[] ids = new long[count];
+        String[] residentNumbers = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = 1_000L + i;
+            residentNumbers[i] = residentNumber(i);
+        }
+        
+        // When
+        LongIdBuffer matched = parallelAgeFilter.filter(ids, residentNumbers, count, 20, 39, 2025, 3, 1);
+        
+        // Then
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int age = AgeUtil.calculateAge(residentNumbers[i], 2025, 3, 1);
+            if (age >= 20 && age <= 39) {
+                expected.add(ids[i]);
+            }
+        }
+        assertThat(expected).isNotEmpty();
+        assertThat(matched.subList(0, matched.size())).containsExactlyElementsOf(expected);
+    }
+    
+    @Test
+    @DisplayName("병렬 연령 필터 - 배열의 count 이후 값과 주민등록번호 오류는 제외")
+    void filter_CountAndInvalidResidentNumber_ShouldBeExcluded() {
+        // Given
+        long[] ids = {1L, 2L, 3L, 4L};
+        String[] residentNumbers = {"9501011234567", "invalid", null, "9501011234567"};
+        
+        // When - 2025-01-01 기준 만 30세, 마지막 항목은 사용하지 않는 영역
+        LongIdBuffer matched = parallelAgeFilter.filter(ids, residentNumbers, 3, 30, 30, 2025, 1, 1);
+        
+        // Then
+        assertThat(matched.toArray()).containsExactly(1L);
+    }
+    
+    private String residentNumber(int i) {
+        if (i % 97 == 0) {
+            return "12345"; // 주민등록번호 오류
+        }
+        int year = 1950 + i % 70;
+        int month = 1 + i % 12;
+        int day = 1 + i % 28;
+        char genderDigit = year >= 2000 ? '3' : '1';
+        return String.format("%02d%02d%02d%c234567", year % 100, month, day, genderDigit);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.joinadmin.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+    
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final ThreadPoolTaskExecutor bulkExecutor = new ThreadPoolTaskExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+    
+    @Test
+    @DisplayName("암호 해싱 및 검증")
+    void encodeAndMatches_ShouldWork() {
+        PasswordHashingService service = createService(1, 10, 3000);
+        
+        String encoded = service.encode("password123");
+        
+        assertThat(service.matches("password123", encoded)).isTrue();
+        assertThat(service.matches("wrong", encoded)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("처리 한도 초과 시 요청 거절")
+    void matches_WhenSaturated_ShouldReject() {
+        PasswordHashingService service = createService(1, 0, 3000);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // 유일한 스레드를 점유
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        
+        try {
+            assertThatThrownBy(() -> service.matches("password123", "$2a$10$invalid"))
+                    .isInstanceOf(TaskRejectedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+    
+    @Test
+    @DisplayName("일괄 해싱 중에도 로그인 암호 검증은 거절되지 않음")
+    void matches_DuringBulkEncode_ShouldNotBeRejected() throws Exception {
+        // Given - 로그인 실행기는 스레드 1개, 대기열 없음 (공유하면 일괄 해싱이 점유해 바로 거절됨)
+        CountDownLatch bulkStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                bulkStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return bcrypt.encode(rawPassword);
+            }
+            
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+        PasswordHashingService service = createService(blockingEncoder, 1, 0, 3000);
+        String encoded = bcrypt.encode("password123");
+        
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() ->
+                service.encodeAll(List.of("bulk1", "bulk2", "bulk3", "bulk4")));
+        
+        try {
+            assertThat(bulkStarted.await(3, TimeUnit.SECONDS)).isTrue();
+            
+            // When - 일괄 해싱이 실행 중인 동안 로그인
+            boolean matched = service.matches("password123", encoded);
+            
+            // Then
+            assertThat(matched).isTrue();
+            assertThat(bulk).isNotDone();
+        } finally {
+            release.countDown();
+        }
+        assertThat(bulk.get(10, TimeUnit.SECONDS)).hasSize(4);
+    }
+    
+    private PasswordHashingService createService(int threads, int queueCapacity, long timeoutMs) {
+        return createService(new BCryptPasswordEncoder(), threads, queueCapacity, timeoutMs);
+    }
+    
+    private PasswordHashingService createService(PasswordEncoder passwordEncoder, int threads, int queueCapacity, long timeoutMs) {
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        
+        bulkExecutor.setCorePoolSize(2);
+        bulkExecutor.setMaxPoolSize(2);
+        bulkExecutor.setQueueCapacity(PasswordHashingService.BULK_WINDOW);
+        bulkExecutor.initialize();
+        return new PasswordHashingService(passwordEncoder, executor, bulkExecutor, timeoutMs, 10000);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.config.KakaoProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveMessageClientTest {
+    
+    private final List<ClientRequest> requests = new ArrayList<>();
+    
+    @Test
+    @DisplayName("카카오톡 발송 - 토큰 계정으로 JSON 요청, 200 응답이면 성공")
+    void sendKakaoMessage_Ok_ShouldReturnTrue() {
+        // Given
+        ReactiveMessageClient client = clientResponding(ClientResponse.create(HttpStatus.OK).build());
+        
+        // When
+        Boolean sent = client.sendKakaoMessage(token(), "01012345678", "공지").block();
+        
+        // Then
+        assertThat(sent).isTrue();
+        ClientRequest request = requests.get(0);
+        assertThat(request.method()).isEqualTo(HttpMethod.POST);
+        assertThat(request.url().toString()).isEqualTo(MessageDispatcher.KAKAO_API_URL);
+        assertThat(request.headers().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(bodyOf(request).block()).contains("\"phone\":\"010-1234-5678\"", "\"message\":\"공지\"");
+        assertThat(request.headers().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Basic " + HttpHeaders.encodeBasicAuth("autoever", "1234", null));
+    }
+    
+    @Test
+    @DisplayName("카카오톡 발송 - 200 이외 응답이나 오류 응답이면 예외 대신 실패")
+    void sendKakaoMessage_NotOk_ShouldReturnFalse() {
+        assertThat(clientResponding(ClientResponse.create(HttpStatus.ACCEPTED).build())
+                .sendKakaoMessage(token(), "01012345678", "공지").block()).isFalse();
+        assertThat(clientResponding(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                .sendKakaoMessage(token(), "01012345678", "공지").block()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("SMS 발송 - 전화번호는 쿼리 파라미터, 본문은 form, 결과가 OK 면 성공")
+    void sendSmsMessage_ResultOk_ShouldReturnTrue() {
+        // Given
+        ReactiveMessageClient client = clientResponding(smsResponse("OK"));
+        
+        // When
+        Boolean sent = client.sendSmsMessage("01012345678", "공지").block();
+        
+        // Then
+        assertThat(sent).isTrue();
+        ClientRequest request = requests.get(0);
+        assertThat(request.url().toString()).isEqualTo(MessageDispatcher.SMS_API_URL + "?phone=010-1234-5678");
+        assertThat(request.headers().getContentType()).isEqualTo(MediaType.APPLICATION_FORM_URLENCODED);
+        assertThat(bodyOf(request).block()).isEqualTo("message=%EA%B3%B5%EC%A7%80");
+    }
+    
+    @Test
+    @DisplayName("SMS 발송 - 결과가 OK 가 아니면 실패")
+    void sendSmsMessage_ResultNotOk_ShouldReturnFalse() {
+        assertThat(clientResponding(smsResponse("FAIL")).sendSmsMessage("01012345678", "공지").block()).isFalse();
+    }
+    
+    private ReactiveMessageClient clientResponding(ClientResponse response) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(response);
+                })
+                .build();
+        return new ReactiveMessageClient(webClient);
+    }
+    
+    static ClientResponse smsResponse(String result) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"result\":\"" + result + "\"}")
+                .build();
+    }
+    
+    // 요청 본문을 실제 전송할 때와 같은 방식으로 직렬화 (발송 스레드에서 block 할 수 없으므로 Mono 로 반환)
+    static Mono<String> bodyOf(ClientRequest request) {
+        MockClientHttpRequest body = new MockClientHttpRequest(request.method(), request.url());
+        body.getHeaders().putAll(request.headers());
+        return request.body().insert(body, new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+            }
+            
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+            
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        }).then(Mono.defer(body::getBodyAsString));
+    }
+    
+    private static KakaoTokenPool.Token token() {
+        return new KakaoTokenPool(new KakaoProperties()).acquire();
+    }
+}
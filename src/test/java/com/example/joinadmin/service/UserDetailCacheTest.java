@@ -0,0 +1,84 @@
+package com.example.joinadmin.service;
+
+import com.example.joinadmin.dto.UserDetailResponse;
+import com.example.joinadmin.dto.UserUpdateRequest;
+import com.example.joinadmin.entity.User;
+import com.example.joinadmin.repository.UserRepository;
+import com.google.common.cache.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDetailCacheTest {
+    
+    @Autowired
+    private UserDetailCache userDetailCache;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        // 수정/삭제 후 캐시 제거는 커밋 이후에 실행되므로 테스트 트랜잭션 없이 저장
+        user = new User();
+        user.setAccount("cacheuser");
+        user.setPassword("encodedPassword");
+        user.setName("홍길동");
+        user.setResidentNumber("9001011234567");
+        user.setPhoneNumber("01012345678");
+        user.setAddress("서울특별시 강남구 테헤란로 123");
+        user = userRepository.save(user);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+    
+    @Test
+    @DisplayName("본인 정보 캐시 - 두 번째 조회는 캐시 적중")
+    void getUserDetail_Twice_ShouldHitCache() {
+        CacheStats before = userDetailCache.stats();
+        
+        UserDetailResponse first = userDetailCache.getUserDetail(user.getId());
+        UserDetailResponse second = userDetailCache.getUserDetail(user.getId());
+        
+        CacheStats stats = userDetailCache.stats().minus(before);
+        assertThat(second).isSameAs(first);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("본인 정보 캐시 - 회원 수정 후 변경된 정보 조회")
+    void updateUser_ShouldEvictCachedDetail() {
+        userDetailCache.getUserDetail(user.getId());
+        
+        userService.updateUser(user.getId(), new UserUpdateRequest(null, "부산광역시 해운대구 센텀로 456"));
+        
+        assertThat(userDetailCache.getUserDetail(user.getId()).getAddress()).isEqualTo("부산광역시");
+    }
+    
+    @Test
+    @DisplayName("본인 정보 캐시 - 회원 삭제 후 조회되지 않음")
+    void deleteUser_ShouldEvictCachedDetail() {
+        userDetailCache.getUserDetail(user.getId());
+        
+        userService.deleteUser(user.getId());
+        
+        assertThat(userDetailCache.getUserDetail(user.getId())).isNull();
+    }
+}
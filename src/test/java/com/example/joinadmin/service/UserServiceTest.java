@@ -16,7 +16,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -33,7 +35,7 @@ class UserServiceTest {
     private UserRepository userRepository;
     
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
     
     @BeforeEach
     void setUp() {
@@ -136,6 +138,52 @@ class UserServiceTest {
         assertThat(response.getUserId()).isNull();
     }
     
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("회원가입 실패 - 계정 중복 (커밋된 사용자와 유니크 제약 조건으로 판단)")
+    void registerUser_WithCommittedDuplicateAccount_ShouldFailOnUniqueConstraint() {
+        try {
+            // Given - 별도 트랜잭션으로 커밋된 기존 사용자
+            UserRegistrationResponse first = userService.registerUser(new UserRegistrationRequest(
+                    "dupaccount", "password123", "홍길동", "1234567890123", "01012345678", "서울특별시 강남구"));
+            assertThat(first.isSuccess()).isTrue();
+            
+            // When - 계정만 같은 가입 요청
+            UserRegistrationResponse response = userService.registerUser(new UserRegistrationRequest(
+                    "dupaccount", "password456", "김철수", "9876543210987", "01087654321", "부산광역시 해운대구"));
+            
+            // Then - uk_users_account 위반이 계정 중복 메시지로 변환되고 기존 사용자만 남음
+            assertThat(response.isSuccess()).isFalse();
+            assertThat(response.getMessage()).isEqualTo("이미 존재하는 계정입니다.");
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            userRepository.deleteAll();
+        }
+    }
+    
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("회원가입 실패 - 주민등록번호 중복 (커밋된 사용자와 유니크 제약 조건으로 판단)")
+    void registerUser_WithCommittedDuplicateResidentNumber_ShouldFailOnUniqueConstraint() {
+        try {
+            // Given - 별도 트랜잭션으로 커밋된 기존 사용자
+            UserRegistrationResponse first = userService.registerUser(new UserRegistrationRequest(
+                    "dupresident1", "password123", "홍길동", "1234567890123", "01012345678", "서울특별시 강남구"));
+            assertThat(first.isSuccess()).isTrue();
+            
+            // When - 주민등록번호만 같은 가입 요청
+            UserRegistrationResponse response = userService.registerUser(new UserRegistrationRequest(
+                    "dupresident2", "password456", "김철수", "1234567890123", "01087654321", "부산광역시 해운대구"));
+            
+            // Then - uk_users_resident_number 위반이 주민등록번호 중복 메시지로 변환되고 기존 사용자만 남음
+            assertThat(response.isSuccess()).isFalse();
+            assertThat(response.getMessage()).isEqualTo("이미 등록된 주민등록번호입니다.");
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            userRepository.deleteAll();
+        }
+    }
+    
     @Test
     @DisplayName("계정으로 사용자 조회 - 존재하는 사용자")
     void findByAccount_WithExistingAccount_ShouldReturnUser() {
@@ -409,6 +457,33 @@ class UserServiceTest {
         assertThat(response.getUserId()).isNotNull();
     }
     
+    @Test
+    @DisplayName("로그인 성공 - 기존 해시는 현재 설정으로 재해싱")
+    void loginUser_WithOutdatedHash_ShouldRehashPassword() {
+        // Given - 접두사 없는 기존 형식, 다른 비용의 BCrypt 해시로 저장된 사용자
+        User user = new User();
+        user.setAccount("legacyuser1");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password123"));
+        user.setName("기존회원");
+        user.setResidentNumber("2222222222222");
+        user.setPhoneNumber("01022222222");
+        user.setAddress("서울특별시 중구");
+        User savedUser = userRepository.save(user);
+        
+        // When
+        LoginResponse response = userService.loginUser(new LoginRequest("legacyuser1", "password123"));
+        
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        String rehashed = userRepository.findById(savedUser.getId()).orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("password123", rehashed)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+        
+        // 재해싱 후에도 로그인 가능
+        assertThat(userService.loginUser(new LoginRequest("legacyuser1", "password123")).isSuccess()).isTrue();
+    }
+    
     @Test
     @DisplayName("로그인 실패 - 존재하지 않는 계정")
     void loginUser_WithNonExistentAccount_ShouldReturnFailure() {
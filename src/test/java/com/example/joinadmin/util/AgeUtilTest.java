@@ -229,4 +229,62 @@ class AgeUtilTest {
         
         assertThat(age).isEqualTo(expectedAge);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("생년월일 추출")
+    void extractBirthDate_ShouldReturnBirthDate() {
+        assertThat(AgeUtil.extractBirthDate("9001011234567")).isEqualTo(LocalDate.of(1990, 1, 1));
+        assertThat(AgeUtil.extractBirthDate("0506153234567")).isEqualTo(LocalDate.of(2005, 6, 15));
+    }
+    
+    @Test
+    @DisplayName("나이 경계 생년월일 - calculateAge 와 동일한 기준")
+    void latestBirthDateForAge_ShouldMatchCalculateAge() {
+        // Given - 평년 2월 28일 기준
+        LocalDate currentDate = LocalDate.of(2025, 2, 28);
+        
+        // When
+        LocalDate latest = AgeUtil.latestBirthDateForAge(25, currentDate);
+        
+        // Then - 윤년 2월 29일 출생자도 25세
+        assertThat(latest).isEqualTo(LocalDate.of(2000, 2, 29));
+        assertThat(AgeUtil.calculateAge(latest, currentDate)).isEqualTo(25);
+        assertThat(AgeUtil.calculateAge(latest.plusDays(1), currentDate)).isEqualTo(24);
+        
+        // 일반적인 날짜
+        LocalDate normalDate = LocalDate.of(2025, 10, 17);
+        assertThat(AgeUtil.latestBirthDateForAge(30, normalDate)).isEqualTo(LocalDate.of(1995, 10, 17));
+    }
+    
+    @Test
+    @DisplayName("나이 계산 (문자 직접 읽기) - LocalDate 기반 계산과 동일")
+    void calculateAge_WithDigits_ShouldMatchLocalDateCalculation() {
+        String[] residentNumbers = {
+                "9001011234567", "9912312234567", "0002293234567", "0402294234567", "0506153234567", "8803011234567"
+        };
+        LocalDate[] currentDates = {
+                LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1), LocalDate.of(2024, 2, 28),
+                LocalDate.of(2024, 2, 29), LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1)
+        };
+        
+        for (String residentNumber : residentNumbers) {
+            for (LocalDate currentDate : currentDates) {
+                int expected = AgeUtil.calculateAge(AgeUtil.extractBirthDate(residentNumber), currentDate);
+                int actual = AgeUtil.calculateAge(residentNumber,
+                        currentDate.getYear(), currentDate.getMonthValue(), currentDate.getDayOfMonth());
+                assertThat(actual).as("%s @ %s", residentNumber, currentDate).isEqualTo(expected);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("나이 계산 (문자 직접 읽기) - 올바르지 않은 주민등록번호는 -1")
+    void calculateAge_WithInvalidDigits_ShouldReturnMinusOne() {
+        assertThat(AgeUtil.calculateAge(null, 2025, 1, 1)).isEqualTo(-1);
+        assertThat(AgeUtil.calculateAge("900101123456", 2025, 1, 1)).isEqualTo(-1); // 12자리
+        assertThat(AgeUtil.calculateAge("9001015234567", 2025, 1, 1)).isEqualTo(-1); // 세기 코드 오류
+        assertThat(AgeUtil.calculateAge("9013011234567", 2025, 1, 1)).isEqualTo(-1); // 13월
+        assertThat(AgeUtil.calculateAge("0102291234567", 2025, 1, 1)).isEqualTo(-1); // 평년 2월 29일
+        assertThat(AgeUtil.calculateAge("90A1011234567", 2025, 1, 1)).isEqualTo(-1); // 숫자 아님
+    }
+}
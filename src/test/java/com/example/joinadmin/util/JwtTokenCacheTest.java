@@ -0,0 +1,88 @@
+package com.example.joinadmin.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenCacheTest {
+    
+    private static final String SECRET = "myTestSecretKeyThatIsLongEnoughForHS256Algorithm";
+    
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증")
+    void verify_SameToken_ShouldParseOnce() {
+        AtomicInteger parseCount = new AtomicInteger();
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600000) {
+            @Override
+            public JwtPrincipal parseToken(String token) {
+                parseCount.incrementAndGet();
+                return super.parseToken(token);
+            }
+        };
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(jwtUtil, 100, 3600000);
+        String token = jwtUtil.generateToken("testuser1", 1L);
+        
+        JwtPrincipal first = jwtTokenCache.verify(token);
+        JwtPrincipal second = jwtTokenCache.verify(token);
+        
+        assertThat(first.getAccount()).isEqualTo("testuser1");
+        assertThat(second).isSameAs(first);
+        assertThat(parseCount.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 거부")
+    void verify_CachedTokenPastExpiration_ShouldReturnNull() throws InterruptedException {
+        // 만료 시각이 50ms 후인 사용자 정보를 반환하도록 파싱 결과를 고정
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600000) {
+            @Override
+            public JwtPrincipal parseToken(String token) {
+                return new JwtPrincipal("testuser1", 1L, new Date(System.currentTimeMillis() + 50));
+            }
+        };
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(jwtUtil, 100, 3600000);
+        
+        assertThat(jwtTokenCache.verify("token")).isNotNull();
+        Thread.sleep(100);
+        
+        assertThat(jwtTokenCache.verify("token")).isNull();
+        assertThat(jwtTokenCache.size()).isZero();
+    }
+    
+    @Test
+    @DisplayName("다시 조회되지 않는 토큰도 만료 시각이 지나면 캐시에서 제거")
+    void purgeExpired_ShouldRemoveEntriesPastTheirOwnExpiration() throws InterruptedException {
+        // 토큰마다 만료 시각이 다른 사용자 정보를 반환 (short 는 50ms 후, long 은 1시간 후 만료)
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600000) {
+            @Override
+            public JwtPrincipal parseToken(String token) {
+                long lifetime = token.equals("short") ? 50 : 3600000;
+                return new JwtPrincipal(token, 1L, new Date(System.currentTimeMillis() + lifetime));
+            }
+        };
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(jwtUtil, 100, 3600000);
+        jwtTokenCache.verify("short");
+        jwtTokenCache.verify("long");
+        Thread.sleep(100);
+        
+        jwtTokenCache.purgeExpired();
+        
+        // 설정된 유효기간(1시간)이 아니라 각 토큰의 만료 시각 기준으로 제거
+        assertThat(jwtTokenCache.size()).isEqualTo(1);
+        assertThat(jwtTokenCache.verify("long").getAccount()).isEqualTo("long");
+    }
+    
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+    void verify_InvalidToken_ShouldNotBeCached() {
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(new JwtUtil(SECRET, 3600000), 100, 3600000);
+        
+        assertThat(jwtTokenCache.verify("invalid.jwt.token")).isNull();
+        assertThat(jwtTokenCache.verify(null)).isNull();
+        assertThat(jwtTokenCache.size()).isZero();
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Date;
+
 import static org.assertj.core.api.Assertions.*;
 
 class JwtUtilTest {
@@ -182,4 +184,32 @@ class JwtUtilTest {
             assertThat(jwtUtil.isTokenExpired(token)).isFalse();
         }
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("토큰 파싱 - 한 번의 검증으로 사용자 정보 추출")
+    void parseToken_WithValidToken_ShouldReturnPrincipal() {
+        // Given
+        String token = jwtUtil.generateToken("testuser1", 123L);
+        
+        // When
+        JwtPrincipal principal = jwtUtil.parseToken(token);
+        
+        // Then
+        assertThat(principal).isNotNull();
+        assertThat(principal.getAccount()).isEqualTo("testuser1");
+        assertThat(principal.getUserId()).isEqualTo(123L);
+        assertThat(principal.getExpiration()).isAfter(new Date());
+    }
+    
+    @Test
+    @DisplayName("토큰 파싱 - 유효하지 않거나 만료된 토큰은 null")
+    void parseToken_WithInvalidOrExpiredToken_ShouldReturnNull() throws InterruptedException {
+        JwtUtil shortExpirationJwtUtil = new JwtUtil("myTestSecretKeyThatIsLongEnoughForHS256Algorithm", 1);
+        String expiredToken = shortExpirationJwtUtil.generateToken("testuser1", 123L);
+        Thread.sleep(10);
+        
+        assertThat(jwtUtil.parseToken("invalid.jwt.token")).isNull();
+        assertThat(jwtUtil.parseToken(null)).isNull();
+        assertThat(shortExpirationJwtUtil.parseToken(expiredToken)).isNull();
+    }
+}
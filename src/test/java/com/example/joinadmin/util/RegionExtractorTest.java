@@ -0,0 +1,62 @@
+package com.example.joinadmin.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RegionExtractorTest {
+    
+    @Test
+    @DisplayName("행정구역 추출 - 정식 명칭은 같은 인스턴스 반환")
+    void extract_CanonicalName_ShouldReturnInternedInstance() {
+        // When
+        String region = RegionExtractor.extract(new String("서울특별시 강남구 테헤란로 123"));
+        
+        // Then
+        assertThat(region).isSameAs(RegionExtractor.SEOUL);
+    }
+    
+    @Test
+    @DisplayName("행정구역 추출 - 약칭과 옛 명칭은 정식 명칭으로 변환")
+    void extract_Alias_ShouldReturnCanonicalName() {
+        assertThat(RegionExtractor.extract("서울시 중구 세종대로 110")).isSameAs(RegionExtractor.SEOUL);
+        assertThat(RegionExtractor.extract("경기 성남시 분당구")).isSameAs(RegionExtractor.GYEONGGI);
+        assertThat(RegionExtractor.extract("강원도 춘천시 중앙로")).isSameAs(RegionExtractor.GANGWON);
+        assertThat(RegionExtractor.extract("전라북도 전주시 완산구")).isSameAs(RegionExtractor.JEONBUK);
+        assertThat(RegionExtractor.extract("제주 제주시 연동")).isSameAs(RegionExtractor.JEJU);
+    }
+    
+    @Test
+    @DisplayName("행정구역 추출 - 앞뒤 공백 무시")
+    void extract_WithSurroundingWhitespace_ShouldIgnoreWhitespace() {
+        assertThat(RegionExtractor.extract("  부산광역시 해운대구  ")).isSameAs(RegionExtractor.BUSAN);
+        assertThat(RegionExtractor.extract(" 대전 ")).isSameAs(RegionExtractor.DAEJEON);
+    }
+    
+    @Test
+    @DisplayName("행정구역 추출 - 사전에 없는 주소는 첫 단어 반환")
+    void extract_UnknownRegion_ShouldReturnFirstWord() {
+        assertThat(RegionExtractor.extract("창원시 성산구 중앙대로")).isEqualTo("창원시");
+        assertThat(RegionExtractor.extract("서울특별시청 앞")).isEqualTo("서울특별시청");
+        assertThat(RegionExtractor.extract("광주시 오포읍")).isEqualTo("광주시"); // 경기도 광주시와 구분 불가
+    }
+    
+    @Test
+    @DisplayName("행정구역 추출 - 빈 주소")
+    void extract_EmptyAddress_ShouldReturnEmptyString() {
+        assertThat(RegionExtractor.extract(null)).isEmpty();
+        assertThat(RegionExtractor.extract("")).isEmpty();
+        assertThat(RegionExtractor.extract("   ")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("행정구역 정식 명칭 변환")
+    void canonicalize_ShouldMapAliasesOnly() {
+        assertThat(RegionExtractor.canonicalize("서울")).isSameAs(RegionExtractor.SEOUL);
+        assertThat(RegionExtractor.canonicalize(new String("경상남도"))).isSameAs(RegionExtractor.GYEONGNAM);
+        assertThat(RegionExtractor.canonicalize("창원시")).isEqualTo("창원시");
+        assertThat(RegionExtractor.canonicalize("")).isEmpty();
+        assertThat(RegionExtractor.canonicalize(null)).isNull();
+    }
+}